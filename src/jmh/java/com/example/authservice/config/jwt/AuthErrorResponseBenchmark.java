@@ -0,0 +1,114 @@
+package com.example.authservice.config.jwt;
+
+import com.example.authservice.dto.ApiErrorResponseDTO;
+import com.example.authservice.type.AuthErrorType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+// 만료 토큰으로 거절이 몰릴 때 요청마다 DTO 를 직렬화하던 방식과 미리 인코딩한 본문을 쓰는 방식 비교
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class AuthErrorResponseBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private AuthErrorResponseWriter authErrorResponseWriter;
+    private HttpServletResponse response;
+
+    @Setup
+    public void setUp(Blackhole blackhole) throws IOException {
+        this.authErrorResponseWriter = new AuthErrorResponseWriter(objectMapper);
+        this.response = new DiscardingResponse(blackhole);
+    }
+
+    @Benchmark
+    public void serializePerRequest() throws IOException {
+        ApiErrorResponseDTO errorResponse = ApiErrorResponseDTO.builder()
+                .success(false)
+                .code(AuthErrorType.TOKEN_EXPIRED.getCode())
+                .message(AuthErrorType.TOKEN_EXPIRED.getMessage())
+                .build();
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+
+    @Benchmark
+    public void preEncoded() throws IOException {
+        authErrorResponseWriter.write(response, AuthErrorType.TOKEN_EXPIRED);
+    }
+
+    // 네트워크 출력 비용을 제외하기 위해 본문을 Blackhole 로 버리는 응답
+    private static class DiscardingResponse extends HttpServletResponseWrapper {
+
+        private final ServletOutputStream outputStream;
+        private final PrintWriter writer;
+
+        DiscardingResponse(Blackhole blackhole) {
+            super((HttpServletResponse) Proxy.newProxyInstance(
+                    HttpServletResponse.class.getClassLoader(),
+                    new Class<?>[]{HttpServletResponse.class},
+                    (proxy, method, args) -> null));
+            this.outputStream = new ServletOutputStream() {
+                @Override
+                public void write(int b) {
+                    blackhole.consume(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    blackhole.consume(b);
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                }
+            };
+            this.writer = new PrintWriter(new StringWriter() {
+                @Override
+                public void write(String str, int off, int len) {
+                    blackhole.consume(str);
+                }
+            });
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            return writer;
+        }
+
+        @Override
+        public void setStatus(int sc) {
+        }
+
+        @Override
+        public void setContentType(String type) {
+        }
+
+        @Override
+        public void setContentLength(int len) {
+        }
+    }
+}
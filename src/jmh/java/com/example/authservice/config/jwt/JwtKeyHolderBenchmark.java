@@ -0,0 +1,91 @@
+package com.example.authservice.config.jwt;
+
+import com.example.authservice.dto.ClaimsRequestDTO;
+import com.example.authservice.service.TokenProviderService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static io.jsonwebtoken.SignatureAlgorithm.HS512;
+
+// 요청마다 키/파서를 새로 만들던 방식(perCall*)과 JwtKeyHolder 재사용 방식(cached*)의 서명·검증 처리량 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtKeyHolderBenchmark {
+
+    private JwtProperties jwtProperties;
+    private JwtKeyHolder jwtKeyHolder;
+    private TokenProviderService tokenProviderService;
+    private ClaimsRequestDTO claimsRequestDTO;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("bench@test.com");
+        jwtProperties.setSecretKey(Base64.getEncoder().encodeToString(new byte[64]));
+        // 키/파서 재사용 효과만 측정하도록 검증 캐시는 끈다
+        jwtProperties.getCache().setEnabled(false);
+
+        jwtKeyHolder = new JwtKeyHolder(jwtProperties);
+        jwtKeyHolder.init();
+        tokenProviderService = new TokenProviderService(jwtProperties, jwtKeyHolder,
+                new VerifiedTokenCache(jwtProperties, new SimpleMeterRegistry()));
+
+        claimsRequestDTO = ClaimsRequestDTO.builder()
+                .userId(1L)
+                .nickname("bench")
+                .profileImage("https://example.com/profile.png")
+                .build();
+        token = tokenProviderService.generateToken(claimsRequestDTO, Duration.ofHours(2));
+    }
+
+    @Benchmark
+    public String perCallSign() {
+        Date now = new Date();
+        return Jwts.builder()
+                .setIssuer(jwtProperties.getIssuer())
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + Duration.ofHours(2).toMillis()))
+                .setSubject("1")
+                .claim("nickname", "bench")
+                .claim("profileImage", "https://example.com/profile.png")
+                .signWith(perCallKey(), HS512)
+                .compact();
+    }
+
+    @Benchmark
+    public String cachedSign() {
+        return tokenProviderService.generateToken(claimsRequestDTO, Duration.ofHours(2));
+    }
+
+    @Benchmark
+    public Claims perCallVerify() {
+        return Jwts.parserBuilder()
+                .setSigningKey(perCallKey())
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims cachedVerify() {
+        return jwtKeyHolder.getParser()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    private SecretKey perCallKey() {
+        byte[] keyBytes = Base64.getDecoder().decode(jwtProperties.getSecretKey());
+        return Keys.hmacShaKeyFor(keyBytes);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.authservice.config.jwt;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 요청마다 String.matches 로 정규식을 컴파일하던 방식과 PublicRouteMatcher 의 요청당 매칭 비용 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PublicRouteMatcherBenchmark {
+
+    @Param({"/api/teachers/123/profile", "/auths/users/by-type", "/api/lectures/42/chapters"})
+    public String uri;
+
+    private PublicRouteMatcher publicRouteMatcher;
+
+    @Setup
+    public void setUp() {
+        publicRouteMatcher = new PublicRouteMatcher(new JwtProperties());
+    }
+
+    @Benchmark
+    public boolean regex() {
+        return uri.matches("^/api/teachers/\\d+/profile$")
+                || uri.matches("^/auths/users/\\d+/email$")
+                || uri.matches("^/auths/users/by-type$");
+    }
+
+    @Benchmark
+    public boolean trie() {
+        return publicRouteMatcher.matches(uri);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.authservice.config.mail;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.util.concurrent.TimeUnit;
+
+// 로컬 SMTP 서버(GreenMail)로 인증 코드 메일을 보낼 때의 처리량 비교 (ops = 메일 한 통)
+// perMessage = 기존 sendEmail 처럼 메일마다 send(message) → 매번 새 연결
+// batched    = 기본 JavaMailSenderImpl 의 send(MimeMessage...) → 묶음마다 새 연결 + 메일마다 NOOP
+// pooled     = PooledJavaMailSender 의 send(MimeMessage...) → 풀의 연결 재사용
+// 실행: ./gradlew jmh -Pjmh.includes=PooledMailSenderBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class PooledMailSenderBenchmark {
+
+    private static final int BATCH = 25;
+
+    private GreenMail smtp;
+    private JavaMailSenderImpl defaultSender;
+    private PooledJavaMailSender pooledSender;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        smtp = new GreenMail(ServerSetupTest.SMTP.dynamicPort());
+        smtp.start();
+        int port = smtp.getSmtp().getPort();
+
+        defaultSender = new JavaMailSenderImpl();
+        defaultSender.setHost("localhost");
+        defaultSender.setPort(port);
+
+        MailTransportPoolProperties properties = new MailTransportPoolProperties();
+        properties.setSize(4);
+        pooledSender = new PooledJavaMailSender(properties, new SimpleMeterRegistry());
+        pooledSender.setHost("localhost");
+        pooledSender.setPort(port);
+    }
+
+    // GreenMail 은 받은 메일을 메모리에 쌓으므로 반복마다 비운다
+    @TearDown(Level.Iteration)
+    public void purge() throws Exception {
+        smtp.purgeEmailFromAllMailboxes();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pooledSender.destroy();
+        smtp.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void perMessage() throws MessagingException {
+        for (int i = 0; i < BATCH; i++) {
+            defaultSender.send(message(defaultSender, i));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void batched() throws MessagingException {
+        defaultSender.send(messages(defaultSender));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void pooled() throws MessagingException {
+        pooledSender.send(messages(pooledSender));
+    }
+
+    private static MimeMessage[] messages(JavaMailSenderImpl sender) throws MessagingException {
+        MimeMessage[] messages = new MimeMessage[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            messages[i] = message(sender, i);
+        }
+        return messages;
+    }
+
+    private static MimeMessage message(JavaMailSenderImpl sender, int index) throws MessagingException {
+        MimeMessage message = sender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true);
+        helper.setTo("user" + index + "@test.com");
+        helper.setSubject("이메일 인증 코드");
+        helper.setText("아래 인증 코드를 입력하세요: \n\n" + (100000 + index));
+        return message;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.authservice.config.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.testcontainers.containers.GenericContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// /auths/login 요청 하나가 RateLimitFilter 를 지나는 데 드는 시간 (목표: 요청당 100µs 미만)
+// disabled = 필터를 끈 기준선, redis = Lua 스크립트 한 번의 왕복, local = Redis 장애 시 로컬 윈도우
+// 실행: ./gradlew jmh -Pjmh.includes=RateLimitFilterBenchmark (Docker 필요)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RateLimitFilterBenchmark {
+
+    private static final int CLIENTS = 10_000;
+
+    @Param({"disabled", "redis", "local"})
+    public String mode;
+
+    private GenericContainer<?> redis;
+    private LettuceConnectionFactory connectionFactory;
+    private RateLimitFilter filter;
+    private byte[][] bodies;
+    private String[] addresses;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setEnabled(!"disabled".equals(mode));
+        // 측정 중에 거절되지 않도록 한도를 넉넉하게 잡는다
+        properties.setRules(List.of(RateLimitProperties.Rule.of("/auths/login",
+                Integer.MAX_VALUE, Integer.MAX_VALUE, Duration.ofMinutes(1))));
+
+        StringRedisTemplate redisTemplate;
+        if ("redis".equals(mode)) {
+            redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+            redis.start();
+            connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+            connectionFactory.afterPropertiesSet();
+            redisTemplate = new StringRedisTemplate(connectionFactory);
+        } else {
+            // 연결 실패 비용이 섞이지 않도록 호출 즉시 예외를 던지는 템플릿으로 폴백 경로만 측정
+            redisTemplate = new StringRedisTemplate() {
+                @Override
+                public <T> T execute(RedisScript<T> script,
+                                     List<String> keys, Object... args) {
+                    throw new RedisConnectionFailureException("bench");
+                }
+            };
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        filter = new RateLimitFilter(properties, new RateLimiter(redisTemplate, new SimpleMeterRegistry()),
+                objectMapper, new SimpleMeterRegistry());
+
+        bodies = new byte[CLIENTS][];
+        addresses = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            bodies[i] = ("{\"email\":\"user" + i + "@test.com\",\"password\":\"password\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+            addresses[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redis != null) {
+            redis.stop();
+        }
+    }
+
+    @Benchmark
+    public int login() throws Exception {
+        int client = ThreadLocalRandom.current().nextInt(CLIENTS);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auths/login");
+        request.setContentType("application/json");
+        request.setContent(bodies[client]);
+        request.setRemoteAddr(addresses[client]);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+}
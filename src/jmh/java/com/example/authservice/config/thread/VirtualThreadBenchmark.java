@@ -0,0 +1,117 @@
+package com.example.authservice.config.thread;
+
+import com.example.authservice.config.jwt.JwtKeyHolder;
+import com.example.authservice.config.jwt.JwtProperties;
+import com.example.authservice.config.jwt.VerifiedTokenCache;
+import com.example.authservice.dto.ClaimsRequestDTO;
+import com.example.authservice.service.TokenProviderService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// /auths/login, /auths/refresh 의 요청 처리 흐름을 플랫폼 스레드 풀(Tomcat 기본 200)과 가상 스레드로 실행해 비교
+// 동시 요청 묶음(burst) 하나를 모두 처리하는 데 걸린 시간을 잰다.
+// MySQL/Redis 왕복은 sleep 으로 대체하고, bcrypt 와 JWT 서명·검증은 실제 코드를 실행한다.
+// login 은 bcrypt(CPU) 비중이 커서 차이가 작고, refresh 처럼 I/O 대기가 대부분인 경로에서 차이가 커진다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VirtualThreadBenchmark {
+
+    private static final int PLATFORM_WORKERS = 200;
+    private static final int CONCURRENT_REQUESTS = 1_000;
+    private static final long MYSQL_ROUND_TRIP_MILLIS = 5;
+    private static final long REDIS_ROUND_TRIP_MILLIS = 1;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"login", "refresh"})
+    private String endpoint;
+
+    private ExecutorService executor;
+    private BCryptPasswordEncoder passwordEncoder;
+    private String encodedPassword;
+    private TokenProviderService tokenProviderService;
+    private ClaimsRequestDTO claimsRequestDTO;
+    private String accessToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = threads.equals("virtual")
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_WORKERS);
+
+        passwordEncoder = new BCryptPasswordEncoder();
+        encodedPassword = passwordEncoder.encode("password1!");
+
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("bench@test.com");
+        jwtProperties.setSecretKey(Base64.getEncoder().encodeToString(new byte[64]));
+        jwtProperties.getCache().setEnabled(false);
+        JwtKeyHolder jwtKeyHolder = new JwtKeyHolder(jwtProperties);
+        jwtKeyHolder.init();
+        tokenProviderService = new TokenProviderService(jwtProperties, jwtKeyHolder,
+                new VerifiedTokenCache(jwtProperties, new SimpleMeterRegistry()));
+
+        claimsRequestDTO = ClaimsRequestDTO.builder()
+                .userId(1L)
+                .nickname("bench")
+                .profileImage("https://example.com/profile.png")
+                .build();
+        accessToken = tokenProviderService.generateToken(claimsRequestDTO, Duration.ofHours(2));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int burst() throws Exception {
+        List<Future<String>> responses = new ArrayList<>(CONCURRENT_REQUESTS);
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            responses.add(executor.submit(endpoint.equals("login") ? this::login : this::refresh));
+        }
+        int completed = 0;
+        for (Future<String> response : responses) {
+            if (response.get() != null) {
+                completed++;
+            }
+        }
+        return completed;
+    }
+
+    // findByEmail → bcrypt → 세션 확인 → 토큰 발급 → 세션 저장
+    private String login() throws InterruptedException {
+        Thread.sleep(MYSQL_ROUND_TRIP_MILLIS);
+        if (!passwordEncoder.matches("password1!", encodedPassword)) {
+            return null;
+        }
+        Thread.sleep(REDIS_ROUND_TRIP_MILLIS);
+        String newAccessToken = tokenProviderService.generateToken(claimsRequestDTO, Duration.ofHours(2));
+        tokenProviderService.generateToken(claimsRequestDTO, Duration.ofDays(7));
+        Thread.sleep(REDIS_ROUND_TRIP_MILLIS);
+        return newAccessToken;
+    }
+
+    // accessToken 검증 → 토큰 발급 → Lua 교체
+    private String refresh() throws InterruptedException {
+        if (!tokenProviderService.verify(accessToken).isValid()) {
+            return null;
+        }
+        String newAccessToken = tokenProviderService.generateToken(claimsRequestDTO, Duration.ofMinutes(2));
+        tokenProviderService.generateToken(claimsRequestDTO, Duration.ofDays(7));
+        Thread.sleep(REDIS_ROUND_TRIP_MILLIS);
+        return newAccessToken;
+    }
+}
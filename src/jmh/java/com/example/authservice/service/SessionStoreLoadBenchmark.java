@@ -0,0 +1,217 @@
+package com.example.authservice.service;
+
+import com.example.authservice.config.cache.AccountStatusCache;
+import com.example.authservice.config.cache.AuthCacheProperties;
+import com.example.authservice.config.cache.CacheInvalidator;
+import com.example.authservice.config.cache.SessionTokenNearCache;
+import com.example.authservice.config.jwt.AuthErrorResponseWriter;
+import com.example.authservice.config.jwt.JwtAuthenticationFilter;
+import com.example.authservice.config.jwt.JwtKeyHolder;
+import com.example.authservice.config.jwt.JwtProperties;
+import com.example.authservice.config.jwt.PublicRouteMatcher;
+import com.example.authservice.config.jwt.VerifiedTokenCache;
+import com.example.authservice.config.session.SessionProperties;
+import com.example.authservice.dto.ClaimsRequestDTO;
+import com.example.authservice.dto.RefreshTokenResponseDTO;
+import com.example.authservice.mapper.UserMapper;
+import com.example.authservice.type.Status;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.testcontainers.containers.GenericContainer;
+
+import java.lang.reflect.Proxy;
+import java.net.HttpCookie;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 높은 동시성에서 실제 호출 지점(JWT 필터, POST /auths/refresh)의 처리량과 워커 스레드 점유 시간 비교
+// Tomcat 기본 최대 워커 수(200)와 같은 고정 풀을 두고, JMH 스레드(256)가 동시 요청을 흉내 낸다.
+// workerBusyMicros 를 ops 로 나누면 요청 하나가 워커를 붙잡고 있던 평균 시간이다.
+// 실행: ./gradlew jmh -Pjmh.includes=SessionStoreLoadBenchmark (Docker 필요)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(256)
+public class SessionStoreLoadBenchmark {
+
+    private static final int WORKERS = 200;
+
+    private final AtomicLong userIds = new AtomicLong();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private GenericContainer<?> redis;
+    private LettuceConnectionFactory connectionFactory;
+    private TokenProviderService tokenProviderService;
+    private SessionService sessionService;
+    private TokenService tokenService;
+    private JwtAuthenticationFilter filter;
+    private ExecutorService workers;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Occupancy {
+        public long workerBusyMicros;
+
+        void record(long startNanos) {
+            workerBusyMicros += (System.nanoTime() - startNanos) / 1_000;
+        }
+    }
+
+    // JMH 스레드 하나가 사용자 한 명의 세션을 맡아 교체된 토큰을 이어서 쓴다
+    @State(Scope.Thread)
+    public static class Client {
+        String accessToken;
+        String refreshToken;
+
+        @Setup(Level.Iteration)
+        public void login(SessionStoreLoadBenchmark benchmark) {
+            ClaimsRequestDTO claims = ClaimsRequestDTO.builder()
+                    .userId(benchmark.userIds.incrementAndGet())
+                    .nickname("bench")
+                    .build();
+            accessToken = benchmark.tokenProviderService.generateToken(claims, Duration.ofMinutes(2));
+            refreshToken = benchmark.tokenProviderService.generateToken(claims, Duration.ofDays(7));
+            benchmark.sessionService.saveSession(claims.getUserId(), accessToken, refreshToken, Status.ACTIVE);
+        }
+
+        void accept(ResponseEntity<RefreshTokenResponseDTO> entity) {
+            if (entity.getStatusCode().is2xxSuccessful()) {
+                accessToken = entity.getBody().getAccessToken();
+                refreshToken = HttpCookie.parse(entity.getHeaders().getFirst(HttpHeaders.SET_COOKIE)).get(0).getValue();
+            }
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        redis = new GenericContainer<>("redis:7.2-alpine").withExposedPorts(6379);
+        redis.start();
+
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("bench@test.com");
+        jwtProperties.setSecretKey(Base64.getEncoder().encodeToString(new byte[64]));
+        JwtKeyHolder jwtKeyHolder = new JwtKeyHolder(jwtProperties);
+        jwtKeyHolder.init();
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(jwtProperties, meterRegistry);
+        tokenProviderService = new TokenProviderService(jwtProperties, jwtKeyHolder, verifiedTokenCache);
+
+        // 운영 기본값 그대로의 캐시 구성. 상태는 세션 해시에서 읽히므로 DB 조회가 일어나면 벤치마크를 실패시킨다
+        AuthCacheProperties cacheProperties = new AuthCacheProperties();
+        SessionTokenNearCache nearCache = new SessionTokenNearCache(cacheProperties, meterRegistry);
+        UserMapper userMapper = (UserMapper) Proxy.newProxyInstance(UserMapper.class.getClassLoader(),
+                new Class<?>[]{UserMapper.class}, (proxy, method, args) -> {
+                    throw new IllegalStateException("벤치마크 중 DB 조회: " + method.getName());
+                });
+        AccountStatusCache accountStatusCache = new AccountStatusCache(cacheProperties, userMapper, meterRegistry);
+        CacheInvalidator cacheInvalidator = new CacheInvalidator(redisTemplate, cacheProperties,
+                verifiedTokenCache, nearCache, accountStatusCache);
+        SessionProperties sessionProperties = new SessionProperties();
+        sessionService = new SessionService(redisTemplate, nearCache, accountStatusCache, cacheInvalidator,
+                sessionProperties, new MultiDeviceSessionService(redisTemplate, sessionProperties, meterRegistry));
+        ReactiveSessionService reactiveSessionService = new ReactiveSessionService(
+                new ReactiveStringRedisTemplate(connectionFactory), sessionService, sessionProperties);
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("reactiveSessionService", reactiveSessionService);
+        tokenService = new TokenService(tokenProviderService, sessionService,
+                beanFactory.getBeanProvider(ReactiveSessionService.class));
+        filter = new JwtAuthenticationFilter(tokenProviderService, sessionService, new PublicRouteMatcher(jwtProperties),
+                meterRegistry, new AuthErrorResponseWriter(objectMapper));
+        filter.init();
+
+        workers = Executors.newFixedThreadPool(WORKERS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        workers.shutdownNow();
+        connectionFactory.destroy();
+        redis.stop();
+    }
+
+    // 인증이 필요한 요청: 필터가 워커에서 세션을 확인하고 다음 체인으로 넘긴다
+    @Benchmark
+    public int filter(Client client, Occupancy occupancy) throws Exception {
+        return workers.submit(() -> {
+            long start = System.nanoTime();
+            try {
+                MockHttpServletRequest request = new MockHttpServletRequest("GET", "/auths/users/me");
+                request.addHeader("Authorization", "Bearer " + client.accessToken);
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                filter.doFilter(request, response, new MockFilterChain());
+                return response.getStatus();
+            } finally {
+                occupancy.record(start);
+            }
+        }).get();
+    }
+
+    // auth.session.reactive.enabled=false: 워커가 Redis 교체 응답까지 기다린 뒤 본문을 쓴다
+    @Benchmark
+    public byte[] refreshBlocking(Client client, Occupancy occupancy) throws Exception {
+        return workers.submit(() -> {
+            long start = System.nanoTime();
+            try {
+                ResponseEntity<RefreshTokenResponseDTO> entity =
+                        tokenService.refreshToken(client.accessToken, refreshRequest(client));
+                client.accept(entity);
+                return objectMapper.writeValueAsBytes(entity.getBody());
+            } finally {
+                occupancy.record(start);
+            }
+        }).get();
+    }
+
+    // auth.session.reactive.enabled=true: 워커는 검증과 토큰 생성 후 Mono 를 구독하고 반환된다.
+    // Mono 가 완료되면 Spring MVC 가 비동기 재디스패치로 다시 워커를 잡아 본문을 쓰므로 그 시간도 점유에 넣는다.
+    @Benchmark
+    public byte[] refreshReactive(Client client, Occupancy occupancy) throws Exception {
+        MockHttpServletRequest request = refreshRequest(client);
+        CompletableFuture<ResponseEntity<RefreshTokenResponseDTO>> pending = workers.submit(() -> {
+            long start = System.nanoTime();
+            try {
+                return tokenService.refreshTokenReactive(client.accessToken, request).toFuture();
+            } finally {
+                occupancy.record(start);
+            }
+        }).get();
+        return pending.thenApplyAsync(entity -> {
+            long start = System.nanoTime();
+            try {
+                client.accept(entity);
+                return objectMapper.writeValueAsBytes(entity.getBody());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            } finally {
+                occupancy.record(start);
+            }
+        }, workers).get();
+    }
+
+    private static MockHttpServletRequest refreshRequest(Client client) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auths/refresh");
+        request.addHeader("Authorization", "Bearer " + client.accessToken);
+        request.setCookies(new Cookie("refreshToken", client.refreshToken));
+        return request;
+    }
+}
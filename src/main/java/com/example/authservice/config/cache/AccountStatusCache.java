@@ -0,0 +1,63 @@
+package com.example.authservice.config.cache;
+
+import com.example.authservice.mapper.UserMapper;
+import com.example.authservice.type.Status;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+// 필터가 요청마다 users.status 를 조회하지 않도록 계정 상태를 staleness 동안 보관
+@Component
+public class AccountStatusCache {
+
+    private final UserMapper userMapper;
+    private final boolean enabled;
+    private final Cache<Long, Status> cache;
+    private final Counter dbFallbackCounter;
+
+    public AccountStatusCache(AuthCacheProperties authCacheProperties,
+                              UserMapper userMapper,
+                              MeterRegistry meterRegistry) {
+        AuthCacheProperties.AccountStatus properties = authCacheProperties.getAccountStatus();
+        this.userMapper = userMapper;
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getStaleness())
+                .recordStats()
+                .build();
+        this.dbFallbackCounter = Counter.builder("auth.account.status.db.fallback")
+                .description("계정 상태 캐시 미스로 DB 를 조회한 횟수")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "accountStatus");
+    }
+
+    public Status get(Long userId) {
+        if (!enabled) {
+            return loadFromDb(userId);
+        }
+        return cache.get(userId, this::loadFromDb);
+    }
+
+    public Status getIfPresent(Long userId) {
+        return enabled ? cache.getIfPresent(userId) : null;
+    }
+
+    public void put(Long userId, Status status) {
+        if (enabled && status != null) {
+            cache.put(userId, status);
+        }
+    }
+
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    private Status loadFromDb(Long userId) {
+        dbFallbackCounter.increment();
+        return userMapper.findStatusById(userId);
+    }
+}
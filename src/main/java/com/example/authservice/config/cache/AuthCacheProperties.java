@@ -0,0 +1,37 @@
+package com.example.authservice.config.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("auth.cache")
+public class AuthCacheProperties {
+    // 파드 간 로컬 캐시 무효화 메시지를 주고받는 Redis pub/sub 채널
+    private String invalidationChannel = "auth:cache:invalidate";
+    private SessionToken sessionToken = new SessionToken();
+    private AccountStatus accountStatus = new AccountStatus();
+
+    @Getter
+    @Setter
+    public static class SessionToken {
+        private boolean enabled = false;
+        // 무효화 메시지를 놓쳤을 때 오래된 값이 남아 있을 수 있는 최대 시간
+        private Duration ttl = Duration.ofSeconds(10);
+        private long maximumSize = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class AccountStatus {
+        private boolean enabled = true;
+        // 비활성화된 계정이 다른 파드에서 허용될 수 있는 최대 시간
+        private Duration staleness = Duration.ofSeconds(5);
+        private long maximumSize = 10_000;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.authservice.config.cache;
+
+import com.example.authservice.config.jwt.VerifiedTokenCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+// 로컬 캐시를 비우고, 같은 내용을 Redis pub/sub 으로 다른 파드에 전파한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidator implements MessageListener {
+
+    private static final String SESSION_PREFIX = "session:";
+    private static final String STATUS_PREFIX = "status:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final AuthCacheProperties authCacheProperties;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final SessionTokenNearCache sessionTokenNearCache;
+    private final AccountStatusCache accountStatusCache;
+
+    // 세션의 accessToken 을 새로 쓰거나 지운 직후 호출
+    public void invalidateSession(Long userId) {
+        evictSession(userId);
+        publish(SESSION_PREFIX + userId);
+    }
+
+    // users.status 등 계정 상태를 바꾼 직후 호출
+    public void invalidateStatus(Long userId) {
+        accountStatusCache.invalidate(userId);
+        publish(STATUS_PREFIX + userId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            if (body.startsWith(SESSION_PREFIX)) {
+                evictSession(Long.valueOf(body.substring(SESSION_PREFIX.length())));
+            } else if (body.startsWith(STATUS_PREFIX)) {
+                accountStatusCache.invalidate(Long.valueOf(body.substring(STATUS_PREFIX.length())));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 캐시 무효화 메시지: {}", body);
+        }
+    }
+
+    private void evictSession(Long userId) {
+        verifiedTokenCache.invalidateUser(userId);
+        sessionTokenNearCache.invalidate(userId);
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(authCacheProperties.getInvalidationChannel(), message);
+        } catch (Exception e) {
+            // 전파에 실패해도 다른 파드의 캐시는 TTL 내에 만료된다.
+            log.warn("캐시 무효화 메시지 발행 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.authservice.config.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 세션에 저장된 accessToken 다이제스트를 파드 로컬에 잠시 보관해 필터의 Redis 왕복을 줄이는 near-cache
+@Component
+public class SessionTokenNearCache {
+
+    // 사용자 ID 해시로 나눈 무효화 버전 (같은 칸의 다른 사용자가 무효화돼도 put 을 한 번 건너뛸 뿐이다)
+    private static final int VERSION_STRIPES = 1024;
+
+    private final boolean enabled;
+    private final Cache<Long, String> cache;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    public SessionTokenNearCache(AuthCacheProperties authCacheProperties, MeterRegistry meterRegistry) {
+        AuthCacheProperties.SessionToken properties = authCacheProperties.getSessionToken();
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "sessionToken");
+    }
+
+    // 캐시 값이 제시된 토큰의 다이제스트와 같을 때만 반환한다. 다르면 오래된 값일 수 있으므로 호출 측에서 Redis 로 재확인한다.
+    public String getIfMatches(Long userId, String presentedDigest) {
+        if (!enabled) {
+            return null;
+        }
+        String cached = cache.getIfPresent(userId);
+        return cached != null && cached.equals(presentedDigest) ? cached : null;
+    }
+
+    // Redis 조회를 시작하기 전에 읽어 두고 put 에 넘긴다
+    public long version(Long userId) {
+        return versions.get(stripe(userId));
+    }
+
+    // 조회하는 동안 무효화가 있었으면 조회 결과가 이미 오래된 값일 수 있으므로 저장하지 않는다
+    public void put(Long userId, String savedDigest, long version) {
+        if (!enabled) {
+            return;
+        }
+        if (savedDigest == null) {
+            cache.invalidate(userId);
+            return;
+        }
+        if (version(userId) != version) {
+            return;
+        }
+        cache.put(userId, savedDigest);
+        // 확인과 저장 사이에 무효화가 끼어든 경우 방금 넣은 값을 되돌린다
+        if (version(userId) != version) {
+            cache.asMap().remove(userId, savedDigest);
+        }
+    }
+
+    // 버전을 먼저 올려 진행 중인 조회가 무효화 이전 값을 다시 넣지 못하게 한다
+    public void invalidate(Long userId) {
+        versions.incrementAndGet(stripe(userId));
+        cache.invalidate(userId);
+    }
+
+    private static int stripe(Long userId) {
+        return Math.floorMod(Long.hashCode(userId), VERSION_STRIPES);
+    }
+}
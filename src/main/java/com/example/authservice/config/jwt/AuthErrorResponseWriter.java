@@ -0,0 +1,40 @@
+package com.example.authservice.config.jwt;
+
+import com.example.authservice.dto.ApiErrorResponseDTO;
+import com.example.authservice.type.AuthErrorType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+// 인증 실패 응답 본문은 종류가 고정되어 있으므로 시작 시 UTF-8 바이트로 한 번만 직렬화해 두고 그대로 쓴다.
+@Component
+public class AuthErrorResponseWriter {
+
+    private static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+
+    private final Map<AuthErrorType, byte[]> bodies = new EnumMap<>(AuthErrorType.class);
+
+    public AuthErrorResponseWriter(ObjectMapper objectMapper) throws JsonProcessingException {
+        for (AuthErrorType type : AuthErrorType.values()) {
+            ApiErrorResponseDTO errorResponse = ApiErrorResponseDTO.builder()
+                    .success(false)
+                    .code(type.getCode())
+                    .message(type.getMessage())
+                    .build();
+            bodies.put(type, objectMapper.writeValueAsBytes(errorResponse));
+        }
+    }
+
+    public void write(HttpServletResponse response, AuthErrorType type) throws IOException {
+        byte[] body = bodies.get(type);
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -1,17 +1,20 @@
 package com.example.authservice.config.jwt;
 
-import com.example.authservice.dto.ApiErrorResponseDTO;
-import com.example.authservice.dto.ClaimsResponseDTO;
-import com.example.authservice.mapper.UserMapper;
+import com.example.authservice.dto.SessionStateDTO;
+import com.example.authservice.dto.TokenVerificationResultDTO;
+import com.example.authservice.service.SessionService;
 import com.example.authservice.service.TokenProviderService;
+import com.example.authservice.type.AuthErrorType;
 import com.example.authservice.type.Status;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.authservice.type.TokenStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -21,17 +24,24 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final UserMapper userMapper;
     private final TokenProviderService tokenProviderService;
-    private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper = new ObjectMapper(); // JSON 변환용
+    private final SessionService sessionService;
+    private final PublicRouteMatcher publicRouteMatcher;
+    private final MeterRegistry meterRegistry;
+    private final AuthErrorResponseWriter authErrorResponseWriter;
+    private Timer authenticationTimer;
     //..
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
-        String uri = request.getRequestURI();
-        return uri.matches("^/api/teachers/\\d+/profile$")
-                || uri.matches("^/auths/users/\\d+/email$")
-                || uri.matches("^/auths/users/by-type$");
+        return publicRouteMatcher.matches(request.getRequestURI());
+    }
+
+    @PostConstruct
+    public void init() {
+        this.authenticationTimer = Timer.builder("auth.filter.latency")
+                .description("JWT 인증 필터의 토큰 검증 및 세션 확인 소요 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
     }
 
     @Override
@@ -44,61 +54,62 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 1. JWT 유효성 검사
-        int result = tokenProviderService.validateToken(token);
-        if (result == 3) {
-            setErrorResponse(response, 40103, "비정상적인 접근입니다.");
-            return;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean authenticated;
+        try {
+            authenticated = authenticate(token, response);
+        } finally {
+            sample.stop(authenticationTimer);
         }
 
-        if (result == 2) {
-            setErrorResponse(response, 40102, "토큰이 만료되었습니다.");
-            return;
+        if (authenticated) {
+            filterChain.doFilter(request, response);
         }
+    }
 
-        // 2. Claims 추출 (한 번만 호출)
-        ClaimsResponseDTO claims = tokenProviderService.getAuthentication(token);
-        Long userId = claims.getId();
+    private boolean authenticate(String token, HttpServletResponse response) throws IOException {
+        // 1. JWT 유효성 검사 및 Claims 추출 (한 번만 파싱)
+        TokenVerificationResultDTO result = tokenProviderService.verify(token);
+        if (result.getStatus() == TokenStatus.MALFORMED) {
+            authErrorResponseWriter.write(response, AuthErrorType.INVALID_TOKEN);
+            return false;
+        }
 
-        // 3. Redis에 저장된 토큰과 비교
-        String savedToken = String.valueOf(redisTemplate.opsForValue().get("accessToken:" + userId));
-        if (savedToken == null) {
-            setErrorResponse(response, 40102, "토큰이 만료되었습니다.");
-            return;
+        if (result.getStatus() == TokenStatus.EXPIRED) {
+            authErrorResponseWriter.write(response, AuthErrorType.TOKEN_EXPIRED);
+            return false;
         }
 
-        if (!savedToken.equals(token)) {
-            setErrorResponse(response, 40104, "다른 기기에서 로그인되었습니다.");
-            return;
+        // 2. 사용자 ID
+        Long userId = result.getClaims().getId();
+
+        // 3. 저장된 토큰과 계정 상태를 한 번에 조회 (near-cache 사용 시 Redis 조회 생략)
+        // 필터는 결과를 받아야 다음 체인으로 넘길 수 있으므로 리액티브 저장소를 쓰지 않는다
+        SessionStateDTO session = sessionService.getSessionState(userId, token);
+        if (!session.isExists()) {
+            authErrorResponseWriter.write(response, AuthErrorType.TOKEN_EXPIRED);
+            return false;
+        }
+
+        if (!session.isCurrent()) {
+            authErrorResponseWriter.write(response, AuthErrorType.DUPLICATE_LOGIN);
+            return false;
         }
 
         // 4. 계정 상태 확인
-        Status status = userMapper.findStatusById(userId);
-        if (status != Status.ACTIVE) {
-            setErrorResponse(response, 40301, "비활성화된 계정입니다. 관리자에게 문의하세요.");
-            return;
+        if (session.getStatus() != Status.ACTIVE) {
+            authErrorResponseWriter.write(response, AuthErrorType.INACTIVE_ACCOUNT);
+            return false;
         }
 
-        filterChain.doFilter(request, response);
+        return true;
     }
 
     private String extractToken(HttpServletRequest request) {
         String header = request.getHeader("Authorization");
-        if (header == null || !header.toLowerCase().startsWith("bearer ")) {
+        if (header == null || !header.regionMatches(true, 0, "bearer ", 0, 7)) {
             return null;
         }
         return header.substring(7); // Bearer 제거
     }
-
-    private void setErrorResponse(HttpServletResponse response, int code, String message) throws IOException {
-        ApiErrorResponseDTO errorResponse = ApiErrorResponseDTO.builder()
-                .success(false)
-                .code(code)
-                .message(message)
-                .build();
-
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        response.setContentType("application/json;charset=UTF-8");
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
-    }
 }
@@ -0,0 +1,72 @@
+package com.example.authservice.config.jwt;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.util.Base64;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtKeyHolder {
+
+    private final JwtProperties jwtProperties;
+
+    // secret 문자열, 디코딩된 키, 파서를 한 번에 교체하기 위한 스냅샷
+    private volatile KeyMaterial keyMaterial;
+    // 가상 스레드에서 synchronized 로 캐리어가 고정되지 않도록 ReentrantLock 사용
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    @PostConstruct
+    public void init() {
+        this.keyMaterial = build(jwtProperties.getSecretKey());
+    }
+
+    public SecretKey getSecretKey() {
+        return current().secretKey();
+    }
+
+    public JwtParser getParser() {
+        return current().parser();
+    }
+
+    // Vault refresh 등으로 secret 이 바뀐 경우에만 키와 파서를 다시 만든다.
+    private KeyMaterial current() {
+        KeyMaterial material = this.keyMaterial;
+        String secret = jwtProperties.getSecretKey();
+        if (material != null && material.secret().equals(secret)) {
+            return material;
+        }
+        rebuildLock.lock();
+        try {
+            material = this.keyMaterial;
+            if (material == null || !material.secret().equals(secret)) {
+                material = build(secret);
+                this.keyMaterial = material;
+                log.info("JWT 서명 키가 변경되어 키와 파서를 다시 생성했습니다.");
+            }
+            return material;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private KeyMaterial build(String secret) {
+        byte[] keyBytes = Base64.getDecoder().decode(secret);
+        SecretKey secretKey = Keys.hmacShaKeyFor(keyBytes);
+        JwtParser parser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        return new KeyMaterial(secret, secretKey, parser);
+    }
+
+    private record KeyMaterial(String secret, SecretKey secretKey, JwtParser parser) {
+    }
+}
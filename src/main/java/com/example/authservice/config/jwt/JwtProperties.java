@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Getter
 @Setter
 @Component
@@ -12,4 +14,18 @@ import org.springframework.stereotype.Component;
 public class JwtProperties {
     private String issuer;
     private String secretKey;
+    private Cache cache = new Cache();
+    // 인증 필터를 적용하지 않는 경로 ({변수} 는 숫자 세그먼트)
+    private List<String> publicRoutes = List.of(
+            "/api/teachers/{id}/profile",
+            "/auths/users/{userId}/email",
+            "/auths/users/by-type"
+    );
+
+    @Getter
+    @Setter
+    public static class Cache {
+        private boolean enabled = true;
+        private long maximumSize = 10_000;
+    }
 }
@@ -0,0 +1,88 @@
+package com.example.authservice.config.jwt;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 인증 필터를 건너뛰는 공개 경로를 세그먼트 트라이로 한 번만 구성해 두고 요청마다 정규식 없이 매칭
+// 경로 변수({id} 등)는 숫자로만 이루어진 세그먼트와 매칭된다.
+@Component
+public class PublicRouteMatcher {
+
+    private final Node root = new Node();
+
+    public PublicRouteMatcher(JwtProperties jwtProperties) {
+        for (String route : jwtProperties.getPublicRoutes()) {
+            add(route);
+        }
+    }
+
+    public boolean matches(String uri) {
+        if (uri == null || uri.isEmpty() || uri.charAt(0) != '/') {
+            return false;
+        }
+
+        Node node = root;
+        int start = 1;
+        int length = uri.length();
+        while (true) {
+            int end = uri.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+
+            Node next = node.literals.get(uri.substring(start, end));
+            if (next == null && node.numeric != null && isNumeric(uri, start, end)) {
+                next = node.numeric;
+            }
+            if (next == null) {
+                return false;
+            }
+            node = next;
+
+            if (end == length) {
+                return node.terminal;
+            }
+            start = end + 1;
+        }
+    }
+
+    private void add(String route) {
+        if (route == null || !route.startsWith("/")) {
+            throw new IllegalArgumentException("공개 경로는 '/' 로 시작해야 합니다: " + route);
+        }
+
+        Node node = root;
+        for (String segment : route.substring(1).split("/", -1)) {
+            if (segment.startsWith("{") && segment.endsWith("}")) {
+                if (node.numeric == null) {
+                    node.numeric = new Node();
+                }
+                node = node.numeric;
+            } else {
+                node = node.literals.computeIfAbsent(segment, key -> new Node());
+            }
+        }
+        node.terminal = true;
+    }
+
+    private static boolean isNumeric(String uri, int start, int end) {
+        if (start == end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char c = uri.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private Node numeric;
+        private boolean terminal;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.authservice.config.jwt;
+
+import com.example.authservice.dto.ClaimsResponseDTO;
+import com.example.authservice.util.TokenDigestUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+// 서명 검증이 끝난 토큰의 Claims 를 토큰 만료 시각까지 보관하는 로컬 캐시 (키는 토큰의 SHA-256 다이제스트)
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final Cache<String, VerifiedToken> cache;
+    // 사용자별로 캐시에 있는 토큰 다이제스트 (invalidateUser 가 전체 캐시를 훑지 않도록)
+    // 다이제스트 집합은 해당 userId 의 compute 안에서만 바꾼다
+    private final ConcurrentMap<Long, Set<String>> digestsByUser = new ConcurrentHashMap<>();
+
+    public VerifiedTokenCache(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        this.enabled = jwtProperties.getCache().isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getCache().getMaximumSize())
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        return remainingNanos(value);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return remainingNanos(value);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .removalListener((String digest, VerifiedToken value, RemovalCause cause) -> unindex(digest, value))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "verifiedToken");
+    }
+
+    // 현재 서명 키로 검증된 항목만 반환 (키가 교체되면 이전 항목은 무시)
+    public ClaimsResponseDTO get(String token, SecretKey signingKey) {
+        if (!enabled) {
+            return null;
+        }
+        VerifiedToken verified = cache.getIfPresent(TokenDigestUtil.digest(token));
+        if (verified == null || verified.signingKey() != signingKey) {
+            return null;
+        }
+        return verified.claims();
+    }
+
+    public void put(String token, ClaimsResponseDTO claims, Date expiration, SecretKey signingKey) {
+        if (!enabled || expiration == null) {
+            return;
+        }
+        String digest = TokenDigestUtil.digest(token);
+        VerifiedToken verified = new VerifiedToken(claims, expiration.getTime(), signingKey);
+        Long userId = claims.getId();
+        if (userId == null) {
+            cache.put(digest, verified);
+            return;
+        }
+        // 색인과 캐시를 같은 userId 잠금 안에서 갱신해 invalidateUser 와 엇갈려도 색인에서 빠지지 않게 한다
+        digestsByUser.compute(userId, (id, digests) -> {
+            Set<String> updated = digests != null ? digests : new HashSet<>();
+            updated.add(digest);
+            cache.put(digest, verified);
+            return updated;
+        });
+    }
+
+    // 로그아웃, 탈퇴, 강제 로그인 등으로 세션의 accessToken 이 바뀔 때 해당 사용자의 항목 제거
+    public void invalidateUser(Long userId) {
+        if (!enabled || userId == null) {
+            return;
+        }
+        Set<String> digests = digestsByUser.remove(userId);
+        if (digests != null) {
+            cache.invalidateAll(digests);
+        }
+    }
+
+    // 만료/제거된 항목을 색인에서 뺀다 (같은 다이제스트로 다시 저장된 경우는 남긴다)
+    private void unindex(String digest, VerifiedToken value) {
+        if (digest == null || value == null || value.claims().getId() == null) {
+            return;
+        }
+        digestsByUser.computeIfPresent(value.claims().getId(), (id, digests) -> {
+            if (!cache.asMap().containsKey(digest)) {
+                digests.remove(digest);
+            }
+            return digests.isEmpty() ? null : digests;
+        });
+    }
+
+    private static long remainingNanos(VerifiedToken value) {
+        long remainingMillis = value.expiresAt() - System.currentTimeMillis();
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+    }
+
+    private record VerifiedToken(ClaimsResponseDTO claims, long expiresAt, SecretKey signingKey) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.authservice.config.mail;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Properties;
+
+@Configuration
+@EnableConfigurationProperties(MailProperties.class)
+public class MailConfig {
+
+    // spring.mail.* 설정은 그대로 쓰고, 스프링 부트 기본 JavaMailSenderImpl 대신 SMTP 세션 풀을 쓰는 구현을 등록
+    @Bean
+    @ConditionalOnProperty(prefix = "auth.mail.pool", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public PooledJavaMailSender javaMailSender(MailProperties mailProperties,
+                                               MailTransportPoolProperties mailTransportPoolProperties,
+                                               MeterRegistry meterRegistry) {
+        PooledJavaMailSender sender = new PooledJavaMailSender(mailTransportPoolProperties, meterRegistry);
+        sender.setHost(mailProperties.getHost());
+        if (mailProperties.getPort() != null) {
+            sender.setPort(mailProperties.getPort());
+        }
+        sender.setUsername(mailProperties.getUsername());
+        sender.setPassword(mailProperties.getPassword());
+        sender.setProtocol(mailProperties.getProtocol());
+        if (mailProperties.getDefaultEncoding() != null) {
+            sender.setDefaultEncoding(mailProperties.getDefaultEncoding().name());
+        }
+        Properties javaMailProperties = new Properties();
+        javaMailProperties.putAll(mailProperties.getProperties());
+        sender.setJavaMailProperties(javaMailProperties);
+        return sender;
+    }
+}
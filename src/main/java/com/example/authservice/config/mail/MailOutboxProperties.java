@@ -0,0 +1,30 @@
+package com.example.authservice.config.mail;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("auth.mail.outbox")
+public class MailOutboxProperties {
+    // false 면 요청 스레드에서 바로 SMTP 로 보낸다 (기존 방식)
+    private boolean enabled = true;
+    // 한 번에 꺼내 같은 SMTP 연결로 보낼 메일 수
+    private int batchSize = 50;
+    // 꺼낸 묶음을 나눠 동시에 보낼 수 (auth.mail.pool.size 와 맞추면 풀의 세션을 모두 사용한다)
+    private int concurrency = 4;
+    // 대기열 확인 주기 (새 메일이 들어오면 주기와 상관없이 바로 깨운다)
+    private Duration pollInterval = Duration.ofMillis(500);
+    // 꺼낸 메일을 다른 워커가 다시 가져가기 전까지의 시간 (전송 중 파드가 죽은 경우 대비)
+    private Duration lease = Duration.ofMinutes(1);
+    // 실패 시 재시도 간격은 initialBackoff 부터 두 배씩, maxBackoff 까지
+    private Duration initialBackoff = Duration.ofSeconds(2);
+    private Duration maxBackoff = Duration.ofMinutes(5);
+    // 이 횟수만큼 실패하면 dead 목록으로 옮긴다
+    private int maxAttempts = 5;
+}
@@ -0,0 +1,26 @@
+package com.example.authservice.config.mail;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("auth.mail.pool")
+public class MailTransportPoolProperties {
+    // false 면 스프링 기본 JavaMailSenderImpl (send 호출마다 새 SMTP 연결)
+    private boolean enabled = true;
+    // 동시에 열어 둘 인증된 SMTP 세션 수
+    private int size = 4;
+    // 빈 세션을 기다릴 최대 시간
+    private Duration borrowTimeout = Duration.ofSeconds(10);
+    // 이 시간 이상 쉬고 있던 세션은 빌려주기 전에 NOOP 으로 살아 있는지 확인
+    private Duration validateAfterIdle = Duration.ofSeconds(30);
+    // 세션 재활용 기준: 연결 후 경과 시간, 보낸 메일 수 (서버의 세션당 제한에 걸리기 전에 새로 연결)
+    private Duration maxAge = Duration.ofMinutes(10);
+    private int maxMessagesPerConnection = 500;
+}
@@ -0,0 +1,198 @@
+package com.example.authservice.config.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.Address;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 인증까지 끝난 SMTP 세션을 풀에 보관해 send 호출마다 연결/TLS 핸드셰이크/AUTH 를 반복하지 않는다.
+// 기본 구현은 메시지마다 isConnected()(SMTP NOOP)로 연결을 확인하지만, 여기서는 오래 쉬었던 세션을 빌려줄 때만 확인한다.
+// maxAge, maxMessagesPerConnection 을 넘긴 세션과 전송 중 끊어진 세션은 닫고 새로 연결한다.
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    private static final String HEADER_MESSAGE_ID = "Message-ID";
+
+    private final MailTransportPoolProperties poolProperties;
+    private final Semaphore permits;
+    // 최근에 반납된 세션부터 빌려줘서 나머지는 쉬다가 자연스럽게 재검증/정리되도록 LIFO 로 사용
+    private final LinkedBlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final Counter openedCounter;
+    private final Counter recycledCounter;
+
+    public PooledJavaMailSender(MailTransportPoolProperties poolProperties, MeterRegistry meterRegistry) {
+        this.poolProperties = poolProperties;
+        this.permits = new Semaphore(poolProperties.getSize(), true);
+
+        Gauge.builder("auth.mail.pool.active", active, AtomicInteger::get)
+                .description("메일을 보내는 중인 SMTP 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.mail.pool.idle", idle, LinkedBlockingDeque::size)
+                .description("풀에서 쉬고 있는 SMTP 세션 수")
+                .register(meterRegistry);
+        this.openedCounter = Counter.builder("auth.mail.pool.opened")
+                .description("새로 연결한 SMTP 세션 수")
+                .register(meterRegistry);
+        this.recycledCounter = Counter.builder("auth.mail.pool.recycled")
+                .description("수명 초과/검증 실패/전송 오류로 닫은 SMTP 세션 수")
+                .register(meterRegistry);
+    }
+
+    // send(MimeMessage...) 한 번에 전달된 메일을 세션 하나로 이어서 보낸다
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        PooledTransport pooled;
+        try {
+            pooled = borrow();
+        } catch (AuthenticationFailedException ex) {
+            throw new MailAuthenticationException(ex);
+        } catch (Exception ex) {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                failedMessages.put(original(mimeMessages, originalMessages, i), ex);
+            }
+            throw new MailSendException("Mail server connection failed", ex, failedMessages);
+        }
+
+        boolean broken = false;
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                if (broken) {
+                    failedMessages.put(original(mimeMessages, originalMessages, i),
+                            new MessagingException("SMTP 세션이 끊어져 전송하지 못했습니다."));
+                    continue;
+                }
+                MimeMessage mimeMessage = mimeMessages[i];
+                try {
+                    if (mimeMessage.getSentDate() == null) {
+                        mimeMessage.setSentDate(new Date());
+                    }
+                    String messageId = mimeMessage.getMessageID();
+                    mimeMessage.saveChanges();
+                    if (messageId != null) {
+                        // saveChanges 가 새로 만든 Message-ID 대신 지정된 값을 유지
+                        mimeMessage.setHeader(HEADER_MESSAGE_ID, messageId);
+                    }
+                    Address[] addresses = mimeMessage.getAllRecipients();
+                    pooled.transport.sendMessage(mimeMessage, addresses != null ? addresses : new Address[0]);
+                    pooled.sent++;
+                } catch (Exception ex) {
+                    failedMessages.put(original(mimeMessages, originalMessages, i), ex);
+                    // 수신자 거절 등 메시지 단위 오류면 세션을 계속 쓰고, 연결이 끊어졌으면 나머지는 실패로 돌려준다
+                    broken = !pooled.transport.isConnected();
+                }
+            }
+        } finally {
+            release(pooled, broken);
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    private PooledTransport borrow() throws MessagingException, InterruptedException {
+        if (!permits.tryAcquire(poolProperties.getBorrowTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new MessagingException("사용 가능한 SMTP 세션이 없습니다.");
+        }
+        try {
+            PooledTransport pooled;
+            while ((pooled = idle.pollFirst()) != null) {
+                if (isReusable(pooled)) {
+                    break;
+                }
+                recycle(pooled);
+            }
+            if (pooled == null) {
+                pooled = new PooledTransport(connectTransport(), System.nanoTime());
+                openedCounter.increment();
+            }
+            active.incrementAndGet();
+            return pooled;
+        } catch (MessagingException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    private void release(PooledTransport pooled, boolean broken) {
+        active.decrementAndGet();
+        pooled.lastUsedAt = System.nanoTime();
+        if (broken || isExpired(pooled)) {
+            recycle(pooled);
+        } else {
+            idle.offerFirst(pooled);
+        }
+        permits.release();
+    }
+
+    private boolean isReusable(PooledTransport pooled) {
+        if (isExpired(pooled)) {
+            return false;
+        }
+        long idleNanos = System.nanoTime() - pooled.lastUsedAt;
+        if (idleNanos < poolProperties.getValidateAfterIdle().toNanos()) {
+            return true;
+        }
+        // SMTPTransport.isConnected() 는 NOOP 을 보내 서버가 아직 세션을 유지하는지 확인한다
+        return pooled.transport.isConnected();
+    }
+
+    private boolean isExpired(PooledTransport pooled) {
+        return pooled.sent >= poolProperties.getMaxMessagesPerConnection()
+                || System.nanoTime() - pooled.connectedAt >= poolProperties.getMaxAge().toNanos();
+    }
+
+    private void recycle(PooledTransport pooled) {
+        recycledCounter.increment();
+        try {
+            pooled.transport.close();
+        } catch (MessagingException ex) {
+            log.debug("SMTP 세션 종료 중 오류: {}", ex.getMessage());
+        }
+    }
+
+    private static Object original(MimeMessage[] mimeMessages, Object[] originalMessages, int index) {
+        return originalMessages != null ? originalMessages[index] : mimeMessages[index];
+    }
+
+    @Override
+    public void destroy() {
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            recycle(pooled);
+        }
+    }
+
+    private static final class PooledTransport {
+        private final Transport transport;
+        private final long connectedAt;
+        private int sent;
+        private long lastUsedAt;
+
+        private PooledTransport(Transport transport, long connectedAt) {
+            this.transport = transport;
+            this.connectedAt = connectedAt;
+            this.lastUsedAt = connectedAt;
+        }
+    }
+}
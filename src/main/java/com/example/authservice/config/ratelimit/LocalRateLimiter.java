@@ -0,0 +1,52 @@
+package com.example.authservice.config.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Redis 를 쓸 수 없을 때 쓰는 파드 로컬 슬라이딩 윈도우 (한도는 파드마다 따로 적용된다)
+class LocalRateLimiter {
+
+    private final Cache<String, Deque<Long>> windows = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+    // 가상 스레드에서 synchronized 로 캐리어가 고정되지 않도록 ReentrantLock 사용
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // sliding-window-rate-limit.lua 와 같은 규칙: 0 = 허용, 양수 = 거절까지 남은 ms
+    long tryAcquire(List<String> keys, List<Integer> limits, long windowMillis, long now) {
+        lock.lock();
+        try {
+            return acquire(keys, limits, windowMillis, now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long acquire(List<String> keys, List<Integer> limits, long windowMillis, long now) {
+        long retryAfter = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            Deque<Long> timestamps = windows.get(keys.get(i), key -> new ArrayDeque<>());
+            while (!timestamps.isEmpty() && timestamps.peekFirst() <= now - windowMillis) {
+                timestamps.pollFirst();
+            }
+            if (timestamps.size() >= limits.get(i)) {
+                long wait = timestamps.isEmpty() ? windowMillis : timestamps.peekFirst() + windowMillis - now;
+                retryAfter = Math.max(retryAfter, Math.max(1, wait));
+            }
+        }
+        if (retryAfter > 0) {
+            return retryAfter;
+        }
+        for (String key : keys) {
+            windows.get(key, k -> new ArrayDeque<>()).addLast(now);
+        }
+        return 0;
+    }
+}
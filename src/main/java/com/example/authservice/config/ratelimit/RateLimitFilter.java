@@ -0,0 +1,146 @@
+package com.example.authservice.config.ratelimit;
+
+import com.example.authservice.dto.ErrorResponse;
+import com.example.authservice.util.TokenDigestUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 로그인/인증 메일 요청을 IP, 이메일, 경로 단위 슬라이딩 윈도우로 제한한다.
+// 시큐리티 필터 체인보다 먼저 실행되어 거절된 요청은 인증·DB 조회까지 가지 않는다.
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+    // 이메일 추출을 위해 읽을 본문의 최대 크기. 로그인/메일 요청 본문은 작으므로 넘으면 413 으로 거절한다
+    static final int MAX_BODY_BYTES = 8 * 1024;
+
+    private final RateLimitProperties rateLimitProperties;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final byte[] rejectedBody;
+    private final byte[] tooLargeBody;
+    private final Map<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+    public RateLimitFilter(RateLimitProperties rateLimitProperties,
+                           RateLimiter rateLimiter,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) throws JsonProcessingException {
+        this.rateLimitProperties = rateLimitProperties;
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.rejectedBody = objectMapper.writeValueAsBytes(
+                new ErrorResponse("TOO_MANY_REQUESTS", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+        this.tooLargeBody = objectMapper.writeValueAsBytes(
+                new ErrorResponse("PAYLOAD_TOO_LARGE", "요청 본문이 너무 큽니다."));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimitProperties.isEnabled()
+                || !"POST".equals(request.getMethod())
+                || findRule(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RateLimitProperties.Rule rule = findRule(request.getRequestURI());
+        // Content-Length 는 없거나 틀릴 수 있으므로 헤더와 관계없이 상한까지만 읽어 확인한다
+        if (request.getContentLengthLong() > MAX_BODY_BYTES) {
+            writeTooLarge(response);
+            return;
+        }
+        CachedBodyRequest cached = new CachedBodyRequest(request, MAX_BODY_BYTES);
+        if (cached.exceedsLimit()) {
+            writeTooLarge(response);
+            return;
+        }
+        String email = cached.getBody().length > 0 ? extractEmail(cached.getBody()) : null;
+
+        String prefix = "rate:" + rule.getPath();
+        List<String> keys;
+        List<Integer> limits;
+        if (email != null) {
+            // 원문 이메일 대신 다이제스트를 키로 사용
+            String emailKey = prefix + ":email:" + TokenDigestUtil.digest(email.trim().toLowerCase(Locale.ROOT));
+            keys = List.of(prefix + ":ip:" + request.getRemoteAddr(), emailKey);
+            limits = List.of(rule.getIpLimit(), rule.getEmailLimit());
+        } else {
+            keys = List.of(prefix + ":ip:" + request.getRemoteAddr());
+            limits = List.of(rule.getIpLimit());
+        }
+
+        long retryAfterMillis = rateLimiter.tryAcquire(keys, limits, rule.getWindow());
+        if (retryAfterMillis > 0) {
+            rejectedCounter(rule.getPath()).increment();
+            writeRejected(response, retryAfterMillis);
+            return;
+        }
+        filterChain.doFilter(cached, response);
+    }
+
+    private RateLimitProperties.Rule findRule(String uri) {
+        for (RateLimitProperties.Rule rule : rateLimitProperties.getRules()) {
+            if (rule.getPath().equals(uri)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    // 본문이 JSON 이 아니거나 email 이 없으면 IP 한도만 적용하고 검증은 컨트롤러에 맡긴다
+    private String extractEmail(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            return email != null && email.isTextual() && !email.asText().isBlank() ? email.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void writeRejected(HttpServletResponse response, long retryAfterMillis) throws IOException {
+        response.setStatus(429);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (retryAfterMillis + 999) / 1000)));
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(rejectedBody.length);
+        response.getOutputStream().write(rejectedBody);
+    }
+
+    private void writeTooLarge(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(tooLargeBody.length);
+        response.getOutputStream().write(tooLargeBody);
+    }
+
+    private Counter rejectedCounter(String route) {
+        return rejectedCounters.computeIfAbsent(route, r -> Counter.builder("auth.rate.limit.rejected")
+                .description("rate limit 으로 거절된 요청 수")
+                .tag("route", r)
+                .register(meterRegistry));
+    }
+}
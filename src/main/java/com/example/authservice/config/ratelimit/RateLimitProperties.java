@@ -0,0 +1,44 @@
+package com.example.authservice.config.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("auth.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    // POST 요청 경로별 한도 (설정 시 목록 전체가 대체된다)
+    private List<Rule> rules = new ArrayList<>(List.of(
+            Rule.of("/auths/login", 20, 5, Duration.ofMinutes(1)),
+            Rule.of("/auths/force-login", 20, 5, Duration.ofMinutes(1)),
+            Rule.of("/auths/email/send-code", 10, 3, Duration.ofMinutes(10))
+    ));
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private String path;
+        // window 동안 같은 IP 에서 허용할 요청 수
+        private int ipLimit;
+        // window 동안 같은 이메일(요청 본문의 email)로 허용할 요청 수
+        private int emailLimit;
+        private Duration window;
+
+        public static Rule of(String path, int ipLimit, int emailLimit, Duration window) {
+            Rule rule = new Rule();
+            rule.setPath(path);
+            rule.setIpLimit(ipLimit);
+            rule.setEmailLimit(emailLimit);
+            rule.setWindow(window);
+            return rule;
+        }
+    }
+}
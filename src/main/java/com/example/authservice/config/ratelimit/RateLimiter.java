@@ -0,0 +1,59 @@
+package com.example.authservice.config.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 여러 키(IP, 이메일)의 슬라이딩 윈도우를 Lua 스크립트 한 번의 왕복으로 확인하고 기록한다.
+// Redis 호출이 실패하면 파드 로컬 윈도우로 대신 판단한다.
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/sliding-window-rate-limit.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final LocalRateLimiter localRateLimiter = new LocalRateLimiter();
+    private final Counter fallbackCounter;
+
+    public RateLimiter(RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.fallbackCounter = Counter.builder("auth.rate.limit.fallback")
+                .description("Redis 장애로 파드 로컬 rate limit 으로 판단한 요청 수")
+                .register(meterRegistry);
+    }
+
+    // 0 이면 허용, 양수면 거절 (Retry-After 로 쓸 남은 ms)
+    public long tryAcquire(List<String> keys, List<Integer> limits, Duration window) {
+        long now = System.currentTimeMillis();
+        long windowMillis = window.toMillis();
+
+        List<Object> args = new ArrayList<>(3 + limits.size());
+        args.add(String.valueOf(now));
+        args.add(String.valueOf(windowMillis));
+        // 같은 밀리초의 요청도 서로 다른 멤버로 기록되도록
+        args.add(now + "-" + ThreadLocalRandom.current().nextLong());
+        for (Integer limit : limits) {
+            args.add(String.valueOf(limit));
+        }
+
+        try {
+            Long retryAfter = redisTemplate.execute(SLIDING_WINDOW_SCRIPT, keys, args.toArray());
+            return retryAfter != null ? retryAfter : 0;
+        } catch (Exception e) {
+            fallbackCounter.increment();
+            log.debug("rate limit Redis 호출 실패, 로컬 윈도우 사용: {}", e.getMessage());
+            return localRateLimiter.tryAcquire(keys, limits, windowMillis, now);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.authservice.config.redis;
+
+import com.example.authservice.config.cache.AuthCacheProperties;
+import com.example.authservice.config.cache.CacheInvalidator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisPubSubConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       CacheInvalidator cacheInvalidator,
+                                                                       AuthCacheProperties authCacheProperties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheInvalidator, new ChannelTopic(authCacheProperties.getInvalidationChannel()));
+        return container;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.authservice.config.security;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+// 기동 시 이 파드에서 bcrypt 해시 시간을 측정해 targetHashTime 을 넘지 않는 가장 높은 cost 를 정한다.
+// auth.password-hashing.cost 를 지정하면 측정하지 않고 그 값을 쓴다. 결과는 minCost~maxCost 로 제한한다.
+@Slf4j
+@Component
+public class BCryptCostCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-password1!";
+    private static final int MEASURE_ROUNDS = 3;
+
+    @Getter
+    private final int cost;
+
+    public BCryptCostCalibrator(PasswordHashingProperties passwordHashingProperties) {
+        this.cost = passwordHashingProperties.getCost() > 0
+                ? clamp(passwordHashingProperties.getCost(), passwordHashingProperties)
+                : calibrate(passwordHashingProperties);
+    }
+
+    // 저장된 해시($2a$10$...)의 cost
+    public static int costOf(String encodedPassword) {
+        if (encodedPassword == null) {
+            return -1;
+        }
+        String[] parts = encodedPassword.split("\\$");
+        if (parts.length < 4 || !parts[1].startsWith("2")) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(parts[2]);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static int calibrate(PasswordHashingProperties properties) {
+        int baseCost = properties.getMinCost();
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(baseCost);
+        encoder.encode(SAMPLE_PASSWORD); // 워밍업
+
+        long fastestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            fastestNanos = Math.min(fastestNanos, System.nanoTime() - start);
+        }
+
+        // cost 가 1 오를 때마다 해시 시간이 두 배가 되므로 목표 시간까지 몇 단계 올릴 수 있는지 계산
+        double ratio = (double) properties.getTargetHashTime().toNanos() / fastestNanos;
+        int extra = ratio >= 2 ? (int) Math.floor(Math.log(ratio) / Math.log(2)) : 0;
+        int calibrated = clamp(baseCost + extra, properties);
+
+        log.info("bcrypt cost 측정 완료: cost {} = {}ms, 목표 {}ms → cost {}",
+                baseCost, fastestNanos / 1_000_000, properties.getTargetHashTime().toMillis(), calibrated);
+        return calibrated;
+    }
+
+    private static int clamp(int cost, PasswordHashingProperties properties) {
+        return Math.max(properties.getMinCost(), Math.min(properties.getMaxCost(), cost));
+    }
+}
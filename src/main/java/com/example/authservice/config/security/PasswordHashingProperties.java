@@ -0,0 +1,27 @@
+package com.example.authservice.config.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("auth.password-hashing")
+public class PasswordHashingProperties {
+    // bcrypt 전용 스레드 수 (0 이면 컨테이너에 할당된 코어 수)
+    private int threads = 0;
+    // 대기열이 가득 차면 503 으로 바로 거절한다
+    private int queueCapacity = 32;
+    // 거절 응답의 Retry-After
+    private Duration retryAfter = Duration.ofSeconds(1);
+    // bcrypt cost 를 직접 지정 (0 이면 기동 시 targetHashTime 에 맞춰 측정)
+    private int cost = 0;
+    // 해시 한 번에 허용할 시간. cost 가 1 오를 때마다 두 배가 된다
+    private Duration targetHashTime = Duration.ofMillis(250);
+    private int minCost = 10;
+    private int maxCost = 14;
+}
@@ -21,8 +21,8 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder bCryptPasswordEncoder(BCryptCostCalibrator bCryptCostCalibrator) {
+        return new BCryptPasswordEncoder(bCryptCostCalibrator.getCost());
     }
 
     @Bean
@@ -0,0 +1,32 @@
+package com.example.authservice.config.session;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("auth.session")
+public class SessionProperties {
+    private MultiDevice multiDevice = new MultiDevice();
+    private Reactive reactive = new Reactive();
+
+    @Getter
+    @Setter
+    public static class MultiDevice {
+        // false 면 사용자당 세션 하나 (기존 로그인이 있으면 409, 강제 로그인 시 덮어쓰기)
+        private boolean enabled = false;
+        // 초과하면 가장 먼저 만료되는(가장 오래된) 기기 세션부터 밀려난다
+        private int maxSessions = 5;
+    }
+
+    @Getter
+    @Setter
+    public static class Reactive {
+        // true 면 POST /auths/refresh 가 ReactiveSessionService(ReactiveRedisTemplate)로 토큰을 교체하고
+        // Redis 응답을 기다리는 동안 요청 스레드를 반환한다 (인증 필터는 항상 블로킹 SessionService 를 사용)
+        private boolean enabled = false;
+    }
+}
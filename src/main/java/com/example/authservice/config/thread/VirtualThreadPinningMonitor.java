@@ -0,0 +1,103 @@
+package com.example.authservice.config.thread;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// 가상 스레드가 synchronized 블록(JDBC/Lettuce 드라이버 등) 안에서 블로킹되어 캐리어 스레드에 고정(pinning)되는 것을 감지
+// JFR jdk.VirtualThreadPinned 이벤트를 앱 안에서 스트리밍해 원인 클래스별 auth.virtual.thread.pinned 타이머로 기록하고,
+// 원인 위치마다 처음 한 번은 스택을 경고 로그로 남긴다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final VirtualThreadProperties virtualThreadProperties;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> reportedSources = ConcurrentHashMap.newKeySet();
+    private RecordingStream recordingStream;
+
+    @PostConstruct
+    public void start() {
+        VirtualThreadProperties.Pinning pinning = virtualThreadProperties.getPinning();
+        if (!pinning.isEnabled()) {
+            return;
+        }
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(pinning.getThreshold())
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("가상 스레드 pinning 감지 시작 (threshold={})", pinning.getThreshold());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null
+                ? event.getStackTrace().getFrames()
+                : List.of();
+        String source = firstApplicationFrame(frames);
+
+        Timer.builder("auth.virtual.thread.pinned")
+                .description("가상 스레드가 캐리어 스레드에 고정된 시간")
+                .tag("source", source)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        if (reportedSources.add(source)) {
+            log.warn("가상 스레드 pinning 감지: source={}, duration={}ms\n{}",
+                    source, event.getDuration().toMillis(), format(event.getStackTrace()));
+        }
+    }
+
+    // java.*, jdk.*, sun.* 를 건너뛴 첫 프레임의 클래스 (드라이버 또는 애플리케이션 코드)
+    private static String firstApplicationFrame(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            if (frame.getMethod() == null) {
+                continue;
+            }
+            String className = frame.getMethod().getType().getName();
+            if (!className.startsWith("java.") && !className.startsWith("jdk.") && !className.startsWith("sun.")) {
+                return className;
+            }
+        }
+        return "unknown";
+    }
+
+    private String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(스택 없음)";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(virtualThreadProperties.getPinning().getStackDepth())
+                .filter(frame -> frame.getMethod() != null)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+}
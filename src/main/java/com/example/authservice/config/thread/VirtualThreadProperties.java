@@ -0,0 +1,27 @@
+package com.example.authservice.config.thread;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// spring.threads.virtual.enabled=true 로 요청/서비스 경로를 가상 스레드로 실행할 때의 진단 설정
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("auth.virtual-threads")
+public class VirtualThreadProperties {
+    private Pinning pinning = new Pinning();
+
+    @Getter
+    @Setter
+    public static class Pinning {
+        private boolean enabled = true;
+        // 이 시간 이상 캐리어 스레드를 붙잡은 경우만 기록 (JFR jdk.VirtualThreadPinned 기본값과 동일)
+        private Duration threshold = Duration.ofMillis(20);
+        // 로그에 남길 스택 프레임 수
+        private int stackDepth = 12;
+    }
+}
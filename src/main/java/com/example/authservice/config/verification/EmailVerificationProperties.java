@@ -0,0 +1,37 @@
+package com.example.authservice.config.verification;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("auth.email-verification")
+public class EmailVerificationProperties {
+    // redis = Redis 해시 + TTL (기본), mysql = email_verification 테이블 (EmailVerificationMapper)
+    private String store = "redis";
+    // 인증 전 코드 보관 시간 (verifyCode 의 5분 만료와 같게)
+    private Duration codeTtl = Duration.ofMinutes(5);
+    // 인증 완료 후 회원가입을 마칠 때까지 인증 상태를 보관하는 시간
+    private Duration verifiedTtl = Duration.ofHours(1);
+    private Purge purge = new Purge();
+
+    // store=mysql 일 때 만료된 email_verification 행을 주기적으로 지우는 작업 (Redis 는 TTL 로 사라진다)
+    @Getter
+    @Setter
+    public static class Purge {
+        private boolean enabled = true;
+        // 한 번의 실행이 끝난 뒤 다음 실행까지의 간격
+        private Duration interval = Duration.ofMinutes(10);
+        // DELETE ... LIMIT 한 번에 지우는 최대 행 수 (잠금 시간과 복제 지연을 작게 유지)
+        private int batchSize = 1000;
+        // 배치 사이에 쉬는 시간
+        private Duration pause = Duration.ofMillis(100);
+        // 한 번의 실행이 배치를 반복할 수 있는 최대 시간 (리더 잠금은 이보다 길게 잡는다)
+        private Duration maxDuration = Duration.ofMinutes(2);
+    }
+}
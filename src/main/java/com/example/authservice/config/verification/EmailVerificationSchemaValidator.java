@@ -0,0 +1,28 @@
+package com.example.authservice.config.verification;
+
+import com.example.authservice.mapper.EmailVerificationMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// store=mysql 의 upsertEmailCode(INSERT ... ON DUPLICATE KEY UPDATE)는 email UNIQUE 제약이 있어야 한 행을 유지한다.
+// 제약 없이 뜨면 재발송마다 행이 늘어 인증이 깨지므로, 기동 시 확인하고 없으면 실패시킨다 (DDL: db/email_verification.sql).
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "auth.email-verification", name = "store", havingValue = "mysql")
+public class EmailVerificationSchemaValidator {
+
+    private final EmailVerificationMapper emailVerificationMapper;
+
+    @PostConstruct
+    public void validate() {
+        if (emailVerificationMapper.countUniqueEmailConstraints() == 0) {
+            throw new IllegalStateException(
+                    "email_verification.email 에 UNIQUE 제약이 없습니다. db/email_verification.sql 을 적용한 뒤 다시 시작하세요.");
+        }
+        log.info("email_verification.email UNIQUE 제약 확인 완료");
+    }
+}
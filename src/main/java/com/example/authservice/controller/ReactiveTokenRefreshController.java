@@ -0,0 +1,57 @@
+package com.example.authservice.controller;
+
+import com.example.authservice.dto.RefreshTokenResponseDTO;
+import com.example.authservice.service.TokenService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+// auth.session.reactive.enabled=true 일 때의 재발급 경로: Mono 를 반환해 Redis 교체를 기다리는 동안 요청 스레드를 돌려준다
+// (Spring MVC 가 비동기 요청으로 시작하고 결과가 오면 다시 디스패치한다)
+@Tag(name = "토큰 관리", description = "토큰의 재발급 토큰 유효성검사 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/auths")
+@ConditionalOnProperty(prefix = "auth.session.reactive", name = "enabled", havingValue = "true")
+public class ReactiveTokenRefreshController {
+
+    private final TokenService tokenService;
+
+    @Operation(summary = "액세스 토큰 재발급", description = "쿠키 기반 리프레시 토큰으로 새로운 액세스 토큰을 재발급받습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "토큰 재발급 성공",
+                    content = @Content(schema = @Schema(implementation = RefreshTokenResponseDTO.class),
+                            examples = @ExampleObject(
+                                    name = "성공",
+                                    value = "{\n" +
+                                            "  \"success\": true,\n" +
+                                            "  \"accessToken\": \"eyJhbGci...\",\n" +
+                                            "  \"message\": \"토큰이 성공적으로 재발급 되었습니다.\"\n" +
+                                            "}"
+                            ))),
+            @ApiResponse(responseCode = "401", description = "유효하지 않은 토큰 또는 쿠키 없음",
+                    content = @Content(examples = @ExampleObject(
+                            name = "토큰 오류",
+                            value = "{\n" +
+                                    "  \"success\": false,\n" +
+                                    "  \"message\": \"리프레시 토큰이 존재하지 않습니다.\"\n" +
+                                    "}"
+                    )))
+    })
+    @PostMapping("/refresh")
+    public Mono<ResponseEntity<RefreshTokenResponseDTO>> refreshToken(
+            @RequestHeader("Authorization") String accessToken,
+            HttpServletRequest request) {
+        return tokenService.refreshTokenReactive(accessToken, request);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.authservice.controller;
+
+import com.example.authservice.dto.RefreshTokenResponseDTO;
+import com.example.authservice.service.TokenService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// 기본 재발급 경로: 응답까지 요청 스레드에서 처리한다 (auth.session.reactive.enabled=false)
+@Tag(name = "토큰 관리", description = "토큰의 재발급 토큰 유효성검사 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/auths")
+@ConditionalOnProperty(prefix = "auth.session.reactive", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class TokenRefreshController {
+
+    private final TokenService tokenService;
+
+    @Operation(summary = "액세스 토큰 재발급", description = "쿠키 기반 리프레시 토큰으로 새로운 액세스 토큰을 재발급받습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "토큰 재발급 성공",
+                    content = @Content(schema = @Schema(implementation = RefreshTokenResponseDTO.class),
+                            examples = @ExampleObject(
+                                    name = "성공",
+                                    value = "{\n" +
+                                            "  \"success\": true,\n" +
+                                            "  \"accessToken\": \"eyJhbGci...\",\n" +
+                                            "  \"message\": \"토큰이 성공적으로 재발급 되었습니다.\"\n" +
+                                            "}"
+                            ))),
+            @ApiResponse(responseCode = "401", description = "유효하지 않은 토큰 또는 쿠키 없음",
+                    content = @Content(examples = @ExampleObject(
+                            name = "토큰 오류",
+                            value = "{\n" +
+                                    "  \"success\": false,\n" +
+                                    "  \"message\": \"리프레시 토큰이 존재하지 않습니다.\"\n" +
+                                    "}"
+                    )))
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<RefreshTokenResponseDTO> refreshToken(
+            @RequestHeader("Authorization") String accessToken,
+            HttpServletRequest request) {
+        return tokenService.refreshToken(accessToken, request);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.authservice.dto;
+
+import com.example.authservice.type.Status;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SessionStateDTO {
+    // 만료되지 않은 accessToken 세션 존재 여부
+    private boolean exists;
+    // 제시된 토큰이 현재 저장된 토큰인지 여부
+    private boolean current;
+    private Status status;
+}
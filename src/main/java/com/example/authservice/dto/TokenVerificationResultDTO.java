@@ -0,0 +1,38 @@
+package com.example.authservice.dto;
+
+import com.example.authservice.type.TokenStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class TokenVerificationResultDTO {
+
+    private final TokenStatus status;
+    private final ClaimsResponseDTO claims;
+
+    public boolean isValid() {
+        return status == TokenStatus.VALID;
+    }
+
+    public static TokenVerificationResultDTO valid(ClaimsResponseDTO claims) {
+        return TokenVerificationResultDTO.builder()
+                .status(TokenStatus.VALID)
+                .claims(claims)
+                .build();
+    }
+
+    public static TokenVerificationResultDTO expired() {
+        return TokenVerificationResultDTO.builder()
+                .status(TokenStatus.EXPIRED)
+                .build();
+    }
+
+    public static TokenVerificationResultDTO malformed() {
+        return TokenVerificationResultDTO.builder()
+                .status(TokenStatus.MALFORMED)
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.authservice.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class PasswordHashingBusyException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public PasswordHashingBusyException(Duration retryAfter) {
+        super("비밀번호 처리 대기열이 가득 찼습니다.");
+        this.retryAfter = retryAfter;
+    }
+}
@@ -1,22 +1,33 @@
 package com.example.authservice.mapper;
 
 import com.example.authservice.model.EmailVerification;
+import com.example.authservice.store.EmailVerificationStore;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.sql.Timestamp;
-import java.time.LocalDateTime;
 
+// MySQL email_verification 테이블 구현 (auth.email-verification.store=mysql 일 때 사용)
 @Mapper
-public interface EmailVerificationMapper {
+public interface EmailVerificationMapper extends EmailVerificationStore {
 
-    void insertEmailVerification(EmailVerification verification);
+    @Override
+    int upsertEmailCode(@Param("email") String email, @Param("code") String code, @Param("createdAt") Timestamp createdAt);
 
+    @Override
     EmailVerification findByEmail(@Param("email") String email);
 
-    void updateEmailCode(@Param("email") String email, @Param("code") String code, @Param("isVerified") Boolean isVerified,  @Param("createdAt") Timestamp createdAt);
-
-    void updateEmailVerification(EmailVerification verification);
+    @Override
+    int verifyEmailCode(@Param("email") String email, @Param("code") String code, @Param("notBefore") Timestamp notBefore);
 
+    @Override
     void deleteByEmail(@Param("email") String email);
+
+    // 만료된 행을 created_at 순으로 최대 limit 개 삭제 (EmailVerificationPurgeService 전용)
+    int deleteExpired(@Param("unverifiedBefore") Timestamp unverifiedBefore,
+                      @Param("verifiedBefore") Timestamp verifiedBefore,
+                      @Param("limit") int limit);
+
+    // email 단독 UNIQUE 제약 수 (EmailVerificationSchemaValidator 전용)
+    int countUniqueEmailConstraints();
 }
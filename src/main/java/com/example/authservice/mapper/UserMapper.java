@@ -2,6 +2,8 @@ package com.example.authservice.mapper;
 
 import com.example.authservice.dto.UserInfo;
 import com.example.authservice.model.User;
+import com.example.authservice.model.UserClaims;
+import com.example.authservice.model.UserCredential;
 import com.example.authservice.type.Role;
 import com.example.authservice.type.Status;
 import org.apache.ibatis.annotations.Mapper;
@@ -20,6 +22,10 @@ public interface UserMapper {
 
     User findByEmail(@Param("email") String email);
 
+    UserCredential findCredentialByEmail(@Param("email") String email);
+
+    UserClaims findClaimsById(@Param("id") Long userId);
+
     String findEmailByEmail(@Param("email") String email);
 
     Status findStatusById(@Param("id") Long id);
@@ -28,6 +34,10 @@ public interface UserMapper {
 
     void updatePassword(@Param("id") Long userId, @Param("password") String encryptedPassword);
 
+    int updatePasswordIfUnchanged(@Param("id") Long userId,
+                                  @Param("currentPassword") String currentEncryptedPassword,
+                                  @Param("password") String encryptedPassword);
+
     void updateRole(@Param("id") Long id, @Param("role") Role role);
 
     void deleteUserById(Long userId);
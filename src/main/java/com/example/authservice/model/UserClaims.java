@@ -0,0 +1,5 @@
+package com.example.authservice.model;
+
+// 닉네임/프로필 이미지 변경 후 accessToken 재발급에 필요한 컬럼만 담는 조회 결과
+public record UserClaims(Long id, String nickname, String profileImage) {
+}
@@ -0,0 +1,7 @@
+package com.example.authservice.model;
+
+import com.example.authservice.type.Status;
+
+// 로그인 경로 전용 조회 결과: 비밀번호 확인과 토큰 발급에 필요한 컬럼만 담는다
+public record UserCredential(Long id, String password, String nickname, String profileImage, Status status) {
+}
@@ -0,0 +1,134 @@
+package com.example.authservice.service;
+
+import com.example.authservice.config.verification.EmailVerificationProperties;
+import com.example.authservice.mapper.EmailVerificationMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// store=mysql 일 때 만료된 email_verification 행을 created_at 순으로 batchSize 씩 나눠 지운다.
+// 여러 파드 중 Redis 잠금(SET NX PX)을 잡은 한 곳만 실행하고, 잠금은 interval 동안 유지해 클러스터 전체에서 주기마다 한 번만 돈다.
+// 잠금을 잡은 파드가 죽으면 lease 가 끝난 뒤 다른 파드가 이어받는다.
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "auth.email-verification", name = "store", havingValue = "mysql")
+public class EmailVerificationPurgeService {
+
+    static final String LOCK_KEY = "emailVerification:purge:lock";
+    // maxDuration 을 다 써도 잠금이 먼저 풀리지 않도록 두는 여유
+    private static final Duration LOCK_MARGIN = Duration.ofSeconds(30);
+
+    private final EmailVerificationMapper emailVerificationMapper;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final EmailVerificationProperties emailVerificationProperties;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Counter purgedCounter;
+    private final Timer purgeTimer;
+    private ScheduledExecutorService worker;
+
+    public EmailVerificationPurgeService(EmailVerificationMapper emailVerificationMapper,
+                                         RedisTemplate<String, String> redisTemplate,
+                                         EmailVerificationProperties emailVerificationProperties,
+                                         MeterRegistry meterRegistry) {
+        this.emailVerificationMapper = emailVerificationMapper;
+        this.redisTemplate = redisTemplate;
+        this.emailVerificationProperties = emailVerificationProperties;
+
+        this.purgedCounter = Counter.builder("auth.email.verification.purged")
+                .description("만료되어 삭제한 email_verification 행 수")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("auth.email.verification.purge.duration")
+                .description("만료 행 정리 한 번에 걸린 시간 (잠금을 잡은 실행만 기록)")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        EmailVerificationProperties.Purge purge = emailVerificationProperties.getPurge();
+        if (!purge.isEnabled()) {
+            return;
+        }
+        worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "email-verification-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = purge.getInterval().toMillis();
+        worker.scheduleWithFixedDelay(this::purgeSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (worker != null) {
+            // 배치 사이 pause 중이면 깨워서 바로 끝낸다
+            worker.shutdownNow();
+        }
+    }
+
+    private void purgeSafely() {
+        try {
+            if (acquireLeadership()) {
+                purge();
+            }
+        } catch (Exception e) {
+            log.warn("email_verification 만료 행 정리 중 오류: {}", e.getMessage());
+        }
+    }
+
+    // 실행 주기 동안 잠금을 유지한다 (해제하지 않으므로 다른 파드는 다음 주기까지 건너뛴다)
+    boolean acquireLeadership() {
+        EmailVerificationProperties.Purge purge = emailVerificationProperties.getPurge();
+        Duration lease = purge.getInterval().compareTo(purge.getMaxDuration().plus(LOCK_MARGIN)) > 0
+                ? purge.getInterval()
+                : purge.getMaxDuration().plus(LOCK_MARGIN);
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, instanceId, lease));
+    }
+
+    // 지울 행이 batchSize 보다 적게 남을 때까지, 최대 maxDuration 동안 배치를 반복하고 지운 행 수를 돌려준다
+    int purge() {
+        EmailVerificationProperties.Purge purge = emailVerificationProperties.getPurge();
+        // created_at 은 upsertEmailCode 가 LocalDateTime.now() 로 기록하므로 같은 시계를 기준으로 자른다
+        LocalDateTime now = LocalDateTime.now();
+        Duration codeTtl = emailVerificationProperties.getCodeTtl();
+        Timestamp unverifiedBefore = Timestamp.valueOf(now.minus(codeTtl));
+        // 인증은 발급 후 codeTtl 안에 끝나므로 발급 시각 기준 codeTtl + verifiedTtl 이 지나면 인증 보관 시간도 지난 것
+        Timestamp verifiedBefore = Timestamp.valueOf(now.minus(codeTtl).minus(emailVerificationProperties.getVerifiedTtl()));
+
+        long start = System.nanoTime();
+        long deadline = start + purge.getMaxDuration().toNanos();
+        int total = 0;
+        try {
+            while (true) {
+                int deleted = emailVerificationMapper.deleteExpired(unverifiedBefore, verifiedBefore, purge.getBatchSize());
+                total += deleted;
+                purgedCounter.increment(deleted);
+                if (deleted < purge.getBatchSize() || System.nanoTime() >= deadline) {
+                    break;
+                }
+                Thread.sleep(purge.getPause().toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            purgeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (total > 0) {
+            log.info("만료된 email_verification {}건을 삭제했습니다.", total);
+        }
+        return total;
+    }
+}
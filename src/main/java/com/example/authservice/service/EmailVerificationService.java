@@ -2,9 +2,9 @@ package com.example.authservice.service;
 
 import com.example.authservice.dto.SendCodeResponseDTO;
 import com.example.authservice.dto.VerifyCodeResponseDTO;
-import com.example.authservice.mapper.EmailVerificationMapper;
 import com.example.authservice.mapper.UserMapper;
 import com.example.authservice.model.EmailVerification;
+import com.example.authservice.store.EmailVerificationStore;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
@@ -25,9 +25,12 @@ import java.util.Random;
 @RequiredArgsConstructor
 public class EmailVerificationService {
 
-    private final EmailVerificationMapper emailVerificationMapper;
+    private static final String SUBJECT = "이메일 인증 코드";
+
+    private final EmailVerificationStore emailVerificationStore;
     private final JavaMailSender mailSender;
     private final UserMapper userMapper;
+    private final MailOutboxService mailOutboxService;
 
     // 6자리의 랜덤 인증 코드 생성
     public String generateCode() {
@@ -47,62 +50,19 @@ public class EmailVerificationService {
                             .build());
         }
 
-        EmailVerification existingVerification = emailVerificationMapper.findByEmail(email);
-        // 이미 인증된 경우
-        if (existingVerification != null && existingVerification.isVerified()) {
-            return ResponseEntity.ok(
-                    SendCodeResponseDTO.builder()
-                            .success(true)
-                            .message("이미 인증된 이메일입니다.")
-                            .build()
-            );
-        }
-
         String code = generateCode();
-        LocalDateTime now = LocalDateTime.now();
-
-        // 기존 이메일 인증 정보가 있으나 아직 인증되지 않은 경우 - 코드 업데이트 후 이메일 발송
-        if (existingVerification != null && !existingVerification.isVerified()) {
-            EmailVerification verification = EmailVerification.builder()
-                    .email(email)
-                    .code(code)
-                    .isVerified(false)
-                    .createdAt(Timestamp.valueOf(now))
-                    .build();
-            try {
-                emailVerificationMapper.updateEmailCode(
-                        verification.getEmail(),
-                        verification.getCode(),
-                        verification.isVerified(),
-                        verification.getCreatedAt()
-                );
-                sendEmail(email, code);
+        try {
+            // 한 번의 upsert 로 코드를 발급 (이미 인증된 이메일이면 0 을 돌려주고 그대로 둔다)
+            int issued = emailVerificationStore.upsertEmailCode(email, code, Timestamp.valueOf(LocalDateTime.now()));
+            if (issued == 0) {
                 return ResponseEntity.ok(
                         SendCodeResponseDTO.builder()
                                 .success(true)
-                                .message("이메일에서 코드를 확인해주세요.")
+                                .message("이미 인증된 이메일입니다.")
                                 .build()
                 );
-            } catch (Exception e) {
-                log.error("이메일 재발송중 오류 발생: {}", e.getMessage());
-                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                        .body(SendCodeResponseDTO.builder()
-                                .success(false)
-                                .message("이메일 재발송중 오류가 발생하였습니다")
-                                .build());
             }
-        }
-
-        // 새로운 이메일 인증 정보 생성 후 저장
-        EmailVerification verification = EmailVerification.builder()
-                .email(email)
-                .code(code)
-                .isVerified(false)
-                .createdAt(Timestamp.valueOf(now))
-                .build();
-        try {
-            emailVerificationMapper.insertEmailVerification(verification);
-            sendEmail(email, code);
+            deliverCode(email, code);
             return ResponseEntity.ok(
                     SendCodeResponseDTO.builder()
                             .success(true)
@@ -119,14 +79,25 @@ public class EmailVerificationService {
         }
     }
 
+    // 응답은 바로 돌려주고 SMTP 전송은 outbox 워커가 맡는다. outbox 에 넣지 못하면 기존처럼 직접 보낸다.
+    private void deliverCode(String email, String code) {
+        if (!mailOutboxService.enqueue(email, SUBJECT, codeText(code))) {
+            sendEmail(email, code);
+        }
+    }
+
+    private static String codeText(String code) {
+        return "아래 인증 코드를 입력하세요: \n\n" + code;
+    }
+
     // 실제 이메일 전송 역할 (내부 로직 처리)
     public void sendEmail(String toEmail, String code) {
         try {
             MimeMessage message = mailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(message, true);
             helper.setTo(toEmail);
-            helper.setSubject("이메일 인증 코드");
-            helper.setText("아래 인증 코드를 입력하세요: \n\n" + code);
+            helper.setSubject(SUBJECT);
+            helper.setText(codeText(code));
             mailSender.send(message);
         } catch (MessagingException e) {
             log.error("이메일 전송 중 오류 발생: {}", e.getMessage());
@@ -136,7 +107,18 @@ public class EmailVerificationService {
 
     // 이메일 코드 검증 후 결과를 반환하는 메서드
     public ResponseEntity<VerifyCodeResponseDTO> verifyCode(String email, String code) {
-        EmailVerification verification = emailVerificationMapper.findByEmail(email);
+        // 코드 일치 + 5분 이내 + 미인증 조건을 한 번의 조건부 UPDATE 로 확인하고 인증 처리
+        Timestamp notBefore = Timestamp.valueOf(LocalDateTime.now(ZoneId.of("Asia/Seoul")).minusMinutes(5));
+        if (emailVerificationStore.verifyEmailCode(email, code, notBefore) > 0) {
+            return ResponseEntity.ok(
+                    VerifyCodeResponseDTO.builder()
+                            .success(true)
+                            .message("인증이 완료되었습니다.")
+                            .build());
+        }
+
+        // 실패한 경우에만 응답 메시지를 고르기 위해 조회
+        EmailVerification verification = emailVerificationStore.findByEmail(email);
         if (verification == null) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(VerifyCodeResponseDTO.builder()
@@ -161,38 +143,24 @@ public class EmailVerificationService {
                             .build());
         }
 
-        LocalDateTime createdAt = verification.getCreatedAt().toLocalDateTime();
-        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
-
-        if (createdAt.plusMinutes(5).isBefore(now)) {
-            deleteEmailVerification(email);  // 만료된 인증 정보 삭제
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(VerifyCodeResponseDTO.builder()
-                            .success(false)
-                            .message("인증 시간이 초과되었습니다. 다시 시도해주세요.")
-                            .build());
-        }
-
-        verification.setVerified(true);
-        emailVerificationMapper.updateEmailVerification(verification);
-        return ResponseEntity.ok(
-                VerifyCodeResponseDTO.builder()
-                        .success(true)
-                        .message("인증이 완료되었습니다.")
+        // 코드는 맞지만 5분이 지난 경우
+        deleteEmailVerification(email);  // 만료된 인증 정보 삭제
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(VerifyCodeResponseDTO.builder()
+                        .success(false)
+                        .message("인증 시간이 초과되었습니다. 다시 시도해주세요.")
                         .build());
     }
 
     // 이메일의 인증 여부 확인 (내부 로직)
     public boolean isVerified(String email) {
-        EmailVerification verification = emailVerificationMapper.findByEmail(email);
+        EmailVerification verification = emailVerificationStore.findByEmail(email);
         return verification != null && verification.isVerified();
     }
 
 //     특정 이메일에 대한 인증정보 삭제 (내부 로직)
     public void deleteEmailVerification(String email) {
-        EmailVerification verification = emailVerificationMapper.findByEmail(email);
-        if (verification != null) {
-            emailVerificationMapper.deleteByEmail(email);
-        }
+        // 없으면 아무것도 지우지 않으므로 조회 없이 바로 삭제
+        emailVerificationStore.deleteByEmail(email);
     }
 }
@@ -0,0 +1,116 @@
+package com.example.authservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// 더블 클릭/프론트 재시도로 같은 자격 증명의 로그인이 동시에 여러 번 들어오면 하나만 실행하고 결과를 공유한다 (single-flight).
+// 키는 동작 + 이메일 + 비밀번호 해시라서 비밀번호가 다른 요청은 합쳐지지 않는다. 완료된 결과는 보관하지 않는다.
+// 먼저 들어온 요청이 WAIT_TIMEOUT 안에 끝나지 않으면 기다리던 요청은 직접 실행한다 (앞선 요청이 멈춰도 같이 묶이지 않도록).
+@Service
+public class LoginCoalescingService {
+
+    private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(5);
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Duration waitTimeout;
+    private final Map<String, Counter> coalescedCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> timeoutCounters = new ConcurrentHashMap<>();
+
+    public LoginCoalescingService(MeterRegistry meterRegistry) {
+        this(meterRegistry, WAIT_TIMEOUT);
+    }
+
+    LoginCoalescingService(MeterRegistry meterRegistry, Duration waitTimeout) {
+        this.meterRegistry = meterRegistry;
+        this.waitTimeout = waitTimeout;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String action, String email, String password, Supplier<T> loader) {
+        String key = action + ":" + credentialKey(email, password);
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+
+        if (existing != null) {
+            // 먼저 들어온 요청의 결과(또는 예외)를 그대로 받는다
+            try {
+                T shared = (T) existing.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                coalescedCounter(action).increment();
+                return shared;
+            } catch (ExecutionException e) {
+                coalescedCounter(action).increment();
+                throw unwrap(e);
+            } catch (TimeoutException e) {
+                timeoutCounter(action).increment();
+                return loader.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("로그인 결과를 기다리는 중 인터럽트되었습니다.", e);
+            }
+        }
+
+        try {
+            T result = loader.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private Counter coalescedCounter(String action) {
+        return coalescedCounters.computeIfAbsent(action, a -> Counter.builder("auth.login.coalesced")
+                .description("진행 중인 동일 로그인 요청의 결과를 공유해 생략한 중복 실행 수")
+                .tag("action", a)
+                .register(meterRegistry));
+    }
+
+    private Counter timeoutCounter(String action) {
+        return timeoutCounters.computeIfAbsent(action, a -> Counter.builder("auth.login.coalesced.timeout")
+                .description("진행 중인 동일 로그인을 기다리다 제한 시간이 지나 직접 실행한 수")
+                .tag("action", a)
+                .register(meterRegistry));
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    // 비밀번호 원문이 맵 키로 남지 않도록 SHA-256 으로 줄인다
+    private static String credentialKey(String email, String password) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            messageDigest.update(String.valueOf(email).getBytes(StandardCharsets.UTF_8));
+            messageDigest.update((byte) 0);
+            byte[] hash = messageDigest.digest(String.valueOf(password).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.example.authservice.service;
+
+import com.example.authservice.config.mail.MailOutboxProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 메일을 Redis outbox 에 저장하고 요청은 바로 돌려준 뒤, 백그라운드 워커가 모아서 SMTP 로 보낸다.
+// 꺼낸 메일은 lease 동안만 워커가 소유하므로 전송 중 파드가 죽어도 다른 파드가 다시 보낸다 (at-least-once).
+// 실패한 메일은 지수 백오프로 다시 예약하고, maxAttempts 를 넘기면 dead 목록으로 옮긴다.
+@Slf4j
+@Service
+public class MailOutboxService {
+
+    static final String OUTBOX_KEY = "mail:outbox";
+    static final String PAYLOAD_KEY = "mail:outbox:payload";
+    static final String DEAD_KEY = "mail:outbox:dead";
+    // dead 목록은 확인용으로 최근 것만 남긴다
+    private static final int DEAD_LIMIT = 1000;
+
+    private static final RedisScript<List> CLAIM_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/mail-outbox-claim.lua"), List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JavaMailSender mailSender;
+    private final MailOutboxProperties mailOutboxProperties;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong depth = new AtomicLong();
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+    private final Timer sendTimer;
+    private final Timer deliveryTimer;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter deadCounter;
+    private ScheduledExecutorService worker;
+    private ExecutorService senders;
+
+    public MailOutboxService(RedisTemplate<String, String> redisTemplate,
+                             JavaMailSender mailSender,
+                             MailOutboxProperties mailOutboxProperties,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.mailSender = mailSender;
+        this.mailOutboxProperties = mailOutboxProperties;
+        this.objectMapper = objectMapper;
+
+        Gauge.builder("auth.mail.outbox.depth", depth, AtomicLong::get)
+                .description("outbox 에서 전송(또는 재시도)을 기다리는 메일 수")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("auth.mail.send.latency")
+                .description("메일 묶음 하나를 SMTP 로 보내는 데 걸린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.deliveryTimer = Timer.builder("auth.mail.outbox.delivery")
+                .description("outbox 에 넣은 시점부터 전송 완료까지 걸린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("auth.mail.sent")
+                .description("전송에 성공한 메일 수")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("auth.mail.retried")
+                .description("전송에 실패해 다시 예약한 메일 수")
+                .register(meterRegistry);
+        this.deadCounter = Counter.builder("auth.mail.dead")
+                .description("재시도 횟수를 넘겨 포기한 메일 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!mailOutboxProperties.isEnabled()) {
+            return;
+        }
+        worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mail-outbox");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger senderIndex = new AtomicInteger();
+        senders = Executors.newFixedThreadPool(Math.max(1, mailOutboxProperties.getConcurrency()), runnable -> {
+            Thread thread = new Thread(runnable, "mail-sender-" + senderIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = mailOutboxProperties.getPollInterval().toMillis();
+        worker.scheduleWithFixedDelay(this::drainSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (worker != null) {
+            worker.shutdown();
+        }
+        if (senders != null) {
+            senders.shutdown();
+        }
+    }
+
+    // outbox 에 저장하고 워커를 깨운다. 비활성화됐거나 Redis 에 저장하지 못하면 false (호출한 쪽에서 직접 보낸다)
+    public boolean enqueue(String to, String subject, String text) {
+        if (!mailOutboxProperties.isEnabled()) {
+            return false;
+        }
+        String id = UUID.randomUUID().toString();
+        try {
+            String payload = objectMapper.writeValueAsString(
+                    new OutboxMail(to, subject, text, 0, System.currentTimeMillis()));
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ops.opsForHash().put(PAYLOAD_KEY, id, payload);
+                    ops.opsForZSet().add(OUTBOX_KEY, id, System.currentTimeMillis());
+                    return null;
+                }
+            });
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("메일을 outbox 에 저장하지 못했습니다: {}", e.getMessage());
+            return false;
+        }
+        depth.incrementAndGet();
+        wakeUp();
+        return true;
+    }
+
+    private void wakeUp() {
+        if (worker != null && wakeUpPending.compareAndSet(false, true)) {
+            worker.execute(this::drainSafely);
+        }
+    }
+
+    private void drainSafely() {
+        wakeUpPending.set(false);
+        try {
+            drain();
+        } catch (Exception e) {
+            log.warn("메일 outbox 처리 중 오류: {}", e.getMessage());
+        }
+    }
+
+    // 전송 시각이 된 메일이 없을 때까지 batchSize 씩 꺼내 보낸다
+    void drain() {
+        int batchSize = mailOutboxProperties.getBatchSize();
+        List<ClaimedMail> claimed;
+        do {
+            claimed = claim(batchSize);
+            if (!claimed.isEmpty()) {
+                send(claimed);
+            }
+        } while (claimed.size() == batchSize);
+
+        Long size = redisTemplate.opsForZSet().zCard(OUTBOX_KEY);
+        depth.set(size != null ? size : 0);
+    }
+
+    private List<ClaimedMail> claim(int batchSize) {
+        long now = System.currentTimeMillis();
+        List<?> result = redisTemplate.execute(CLAIM_SCRIPT, List.of(OUTBOX_KEY, PAYLOAD_KEY),
+                String.valueOf(now),
+                String.valueOf(batchSize),
+                String.valueOf(now + mailOutboxProperties.getLease().toMillis()));
+        if (result == null || result.isEmpty()) {
+            return List.of();
+        }
+        List<ClaimedMail> claimed = new ArrayList<>(result.size() / 2);
+        for (int i = 0; i + 1 < result.size(); i += 2) {
+            String id = (String) result.get(i);
+            try {
+                claimed.add(new ClaimedMail(id, objectMapper.readValue((String) result.get(i + 1), OutboxMail.class)));
+            } catch (JsonProcessingException e) {
+                log.error("outbox 메일을 읽을 수 없어 버립니다: id={}", id);
+                remove(id);
+            }
+        }
+        return claimed;
+    }
+
+    // 꺼낸 묶음을 concurrency 개로 나눠 동시에 보낸다 (각 조각은 풀의 SMTP 세션 하나를 사용)
+    private void send(List<ClaimedMail> claimed) {
+        int chunks = Math.min(mailOutboxProperties.getConcurrency(), claimed.size());
+        if (senders == null || chunks <= 1) {
+            sendChunk(claimed);
+            return;
+        }
+        int chunkSize = (claimed.size() + chunks - 1) / chunks;
+        List<CompletableFuture<Void>> futures = new ArrayList<>(chunks);
+        for (int from = 0; from < claimed.size(); from += chunkSize) {
+            List<ClaimedMail> chunk = claimed.subList(from, Math.min(claimed.size(), from + chunkSize));
+            futures.add(CompletableFuture.runAsync(() -> sendChunk(chunk), senders));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    }
+
+    // 조각 전체를 JavaMailSender.send(MimeMessage...) 한 번으로 보내 SMTP 세션 하나로 이어서 전송한다
+    private void sendChunk(List<ClaimedMail> claimed) {
+        Map<MimeMessage, ClaimedMail> messages = new IdentityHashMap<>();
+        for (ClaimedMail mail : claimed) {
+            try {
+                messages.put(createMessage(mail.payload()), mail);
+            } catch (MessagingException e) {
+                log.error("메일 메시지를 만들 수 없어 버립니다: id={}, {}", mail.id(), e.getMessage());
+                moveToDead(mail);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Set<?> failed = Set.of();
+        long start = System.nanoTime();
+        try {
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            failed = e.getFailedMessages().isEmpty() ? messages.keySet() : e.getFailedMessages().keySet();
+            log.warn("메일 {}건 중 {}건 전송 실패: {}", messages.size(), failed.size(), e.getMessage());
+        } catch (MailException e) {
+            failed = messages.keySet();
+            log.warn("메일 {}건 전송 실패: {}", messages.size(), e.getMessage());
+        } finally {
+            sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        long now = System.currentTimeMillis();
+        for (Map.Entry<MimeMessage, ClaimedMail> entry : messages.entrySet()) {
+            ClaimedMail mail = entry.getValue();
+            if (failed.contains(entry.getKey())) {
+                retryOrDrop(mail);
+            } else {
+                remove(mail.id());
+                sentCounter.increment();
+                deliveryTimer.record(Math.max(0, now - mail.payload().enqueuedAt()), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private MimeMessage createMessage(OutboxMail mail) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true);
+        helper.setTo(mail.to());
+        helper.setSubject(mail.subject());
+        helper.setText(mail.text());
+        return message;
+    }
+
+    private void retryOrDrop(ClaimedMail mail) {
+        OutboxMail payload = mail.payload();
+        int attempts = payload.attempts() + 1;
+        if (attempts >= mailOutboxProperties.getMaxAttempts()) {
+            log.error("메일 전송을 {}회 실패해 포기합니다: id={}", attempts, mail.id());
+            moveToDead(mail);
+            return;
+        }
+        long nextAttemptAt = System.currentTimeMillis() + backoff(attempts).toMillis();
+        try {
+            String updated = objectMapper.writeValueAsString(new OutboxMail(
+                    payload.to(), payload.subject(), payload.text(), attempts, payload.enqueuedAt()));
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ops.opsForHash().put(PAYLOAD_KEY, mail.id(), updated);
+                    ops.opsForZSet().add(OUTBOX_KEY, mail.id(), nextAttemptAt);
+                    return null;
+                }
+            });
+            retriedCounter.increment();
+        } catch (JsonProcessingException e) {
+            // 갱신하지 못해도 lease 가 끝나면 같은 시도 횟수로 다시 보내진다
+            log.warn("재시도 정보를 저장하지 못했습니다: id={}", mail.id());
+        }
+    }
+
+    // 지수 백오프 + ±20% 지터 (여러 파드의 재시도가 한꺼번에 몰리지 않도록)
+    Duration backoff(int attempts) {
+        long initial = mailOutboxProperties.getInitialBackoff().toMillis();
+        long max = mailOutboxProperties.getMaxBackoff().toMillis();
+        long base = Math.min(max, initial << Math.min(attempts - 1, 20));
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (base * jitter));
+    }
+
+    private void remove(String id) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForZSet().remove(OUTBOX_KEY, id);
+                ops.opsForHash().delete(PAYLOAD_KEY, id);
+                return null;
+            }
+        });
+    }
+
+    private void moveToDead(ClaimedMail mail) {
+        String to = mail.payload().to();
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForZSet().remove(OUTBOX_KEY, mail.id());
+                ops.opsForHash().delete(PAYLOAD_KEY, mail.id());
+                // 인증 코드가 담긴 본문은 남기지 않는다
+                ops.opsForList().leftPush(DEAD_KEY, mail.id() + " " + to);
+                ops.opsForList().trim(DEAD_KEY, 0, DEAD_LIMIT - 1);
+                return null;
+            }
+        });
+        deadCounter.increment();
+    }
+
+    public record OutboxMail(String to, String subject, String text, int attempts, long enqueuedAt) {
+    }
+
+    private record ClaimedMail(String id, OutboxMail payload) {
+    }
+}
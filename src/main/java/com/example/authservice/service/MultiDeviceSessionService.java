@@ -0,0 +1,140 @@
+package com.example.authservice.service;
+
+import com.example.authservice.config.session.SessionProperties;
+import com.example.authservice.type.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+// 다중 기기 모드(auth.session.multi-device.enabled=true)의 세션 저장소
+// sessionAccess:{id}, sessionRefresh:{id} 정렬 집합에 기기별 토큰 다이제스트를 만료 시각 score 로 보관하고,
+// sessionPairs:{id} 해시로 같은 기기의 refresh/access 다이제스트를 묶는다. 계정 상태는 session:{id} 해시에 둔다.
+@Service
+public class MultiDeviceSessionService {
+
+    private static final RedisScript<Long> SAVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/multi-session-save.lua"), Long.class);
+    static final RedisScript<Long> ROTATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/multi-session-rotate.lua"), Long.class);
+    private static final RedisScript<Long> REPLACE_ACCESS_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/multi-session-replace-access.lua"), Long.class);
+    private static final RedisScript<Long> REMOVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/multi-session-remove.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SessionProperties sessionProperties;
+    private final Counter evictedCounter;
+
+    public MultiDeviceSessionService(RedisTemplate<String, String> redisTemplate,
+                                     SessionProperties sessionProperties,
+                                     MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.sessionProperties = sessionProperties;
+        this.evictedCounter = Counter.builder("auth.session.evicted")
+                .description("최대 기기 수를 넘어 밀려난 세션 수")
+                .register(meterRegistry);
+    }
+
+    public void save(Long userId,
+                     String accessDigest, long accessExpiresAt,
+                     String refreshDigest, long refreshExpiresAt,
+                     String device, Status status) {
+        Long evicted = redisTemplate.execute(
+                SAVE_SCRIPT,
+                keys(userId),
+                accessDigest, String.valueOf(accessExpiresAt),
+                refreshDigest, String.valueOf(refreshExpiresAt),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(sessionProperties.getMultiDevice().getMaxSessions()),
+                device,
+                status != null ? status.name() : ""
+        );
+        if (evicted != null && evicted > 0) {
+            evictedCounter.increment(evicted);
+        }
+    }
+
+    // 교체 결과는 단일 세션 스크립트와 같은 코드(1, 0, -1)로 반환
+    public Long rotate(Long userId,
+                       String presentedRefreshDigest,
+                       String newAccessDigest, long accessExpiresAt,
+                       String newRefreshDigest, long refreshExpiresAt) {
+        return redisTemplate.execute(
+                ROTATE_SCRIPT,
+                keys(userId),
+                rotateArgs(presentedRefreshDigest, newAccessDigest, accessExpiresAt, newRefreshDigest, refreshExpiresAt)
+                        .toArray()
+        );
+    }
+
+    // 재발급된 accessToken 을 이전 accessToken 이 속한 기기 세션에 반영
+    public boolean replaceAccess(Long userId, String previousAccessDigest, String newAccessDigest, long accessExpiresAt) {
+        Long result = redisTemplate.execute(
+                REPLACE_ACCESS_SCRIPT,
+                keys(userId).subList(0, 3),
+                previousAccessDigest, newAccessDigest, String.valueOf(accessExpiresAt)
+        );
+        return result != null && result == 1;
+    }
+
+    // 로그아웃한 기기 세션만 제거 (다른 기기 세션은 유지)
+    public void remove(Long userId, String accessDigest, String refreshDigest) {
+        redisTemplate.execute(
+                REMOVE_SCRIPT,
+                keys(userId).subList(0, 3),
+                accessDigest, refreshDigest != null ? refreshDigest : ""
+        );
+    }
+
+    // ZSCORE 로 제시된 access 다이제스트를, ZCOUNT 로 남은 유효 세션 유무를, HGET 으로 계정 상태를 한 번의 파이프라인으로 조회
+    public SessionService.Lookup lookup(Long userId, String presentedDigest) {
+        long now = System.currentTimeMillis();
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForZSet().score(accessKey(userId), presentedDigest);
+                ops.opsForZSet().count(accessKey(userId), now + 1, Double.POSITIVE_INFINITY);
+                ops.opsForHash().get("session:" + userId, "status");
+                return null;
+            }
+        });
+        Double score = (Double) results.get(0);
+        Long remaining = (Long) results.get(1);
+        boolean current = score != null && score > now;
+        return new SessionService.Lookup(current || (remaining != null && remaining > 0), current, (String) results.get(2));
+    }
+
+    // 탈퇴 등으로 모든 기기 세션을 지울 때 함께 지울 키 (session:{id} 해시는 SessionService 가 지운다)
+    public static List<String> sessionKeys(Long userId) {
+        return List.of(accessKey(userId), "sessionRefresh:" + userId, "sessionPairs:" + userId);
+    }
+
+    static List<String> rotateArgs(String presentedRefreshDigest,
+                                   String newAccessDigest, long accessExpiresAt,
+                                   String newRefreshDigest, long refreshExpiresAt) {
+        return List.of(
+                presentedRefreshDigest,
+                newAccessDigest, String.valueOf(accessExpiresAt),
+                newRefreshDigest, String.valueOf(refreshExpiresAt),
+                String.valueOf(System.currentTimeMillis())
+        );
+    }
+
+    static List<String> keys(Long userId) {
+        return List.of(accessKey(userId), "sessionRefresh:" + userId, "sessionPairs:" + userId, "session:" + userId);
+    }
+
+    private static String accessKey(Long userId) {
+        return "sessionAccess:" + userId;
+    }
+}
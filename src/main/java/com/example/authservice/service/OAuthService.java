@@ -12,7 +12,6 @@ import com.example.authservice.util.TokenUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -23,13 +22,13 @@ import java.time.Duration;
 public class OAuthService {
 
     private final TokenProviderService tokenProviderService;
-    private final RedisTemplate<String, String> redisTemplate;
     private final OAuth2UserMapper oAuth2UserMapper;
     private final UserMapper userMapper;
     private final ObjectMapper objectMapper;
     private final RestTemplate restTemplate;
     private final NaverOAuthProperties oauthProperties;
     private final TokenUtil tokenUtil;
+    private final SessionService sessionService;
 
     public ResponseEntity<OAuthLoginResponseDTO> loginWithNaverCode(String code, String state, HttpServletResponse response) {
         String tokenUrl = "https://nid.naver.com/oauth2.0/token" +
@@ -106,8 +105,7 @@ public class OAuthService {
 
         CookieUtil.addCookie(response, "refreshToken", refreshToken, 7 * 24 * 60 * 60);
 
-        redisTemplate.opsForValue().set("accessToken:" + user.getId(), accessToken, Duration.ofHours(2));
-        redisTemplate.opsForValue().set("refreshToken:" + user.getId(), refreshToken, Duration.ofDays(7));
+        sessionService.saveSession(user.getId(), accessToken, refreshToken, user.getStatus());
 
         return ResponseEntity.ok(
                 OAuthLoginResponseDTO.builder()
@@ -161,8 +159,7 @@ public class OAuthService {
 
         CookieUtil.addCookie(response, "refreshToken", refreshToken, 7 * 24 * 60 * 60);
 
-        redisTemplate.opsForValue().set("accessToken:" + user.getId(), newAccessToken, Duration.ofHours(2));
-        redisTemplate.opsForValue().set("refreshToken:" + user.getId(), refreshToken, Duration.ofDays(7));
+        sessionService.saveSession(user.getId(), newAccessToken, refreshToken, user.getStatus());
 
         return ResponseEntity.ok(
                 OAuthUserInfoResponseDTO.builder()
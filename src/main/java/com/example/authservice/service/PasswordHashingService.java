@@ -0,0 +1,164 @@
+package com.example.authservice.service;
+
+import com.example.authservice.config.security.BCryptCostCalibrator;
+import com.example.authservice.config.security.PasswordHashingProperties;
+import com.example.authservice.exception.PasswordHashingBusyException;
+import com.example.authservice.mapper.UserMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// bcrypt 해싱/비교를 코어 수만큼의 전용 스레드에서만 실행해, 로그인 폭주가 토큰 검증 요청의 CPU 를 빼앗지 않도록 격리
+// 대기열이 가득 차면 PasswordHashingBusyException(503 + Retry-After)으로 바로 거절한다.
+// 로그인 성공 시 저장된 해시의 cost 가 현재 목표(BCryptCostCalibrator)보다 낮으면 같은 executor 에서 비동기로 다시 해싱한다.
+// 파드마다 측정한 cost 가 다를 수 있으므로 낮추는 방향으로는 다시 해싱하지 않는다 (파드끼리 해시를 번갈아 덮어쓰지 않도록).
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final PasswordHashingProperties passwordHashingProperties;
+    private final UserMapper userMapper;
+    private final int targetCost;
+    private final ThreadPoolExecutor executor;
+    private final Timer waitTimer;
+    private final Timer executionTimer;
+    private final Counter rejectedCounter;
+    private final Counter rehashedCounter;
+
+    public PasswordHashingService(BCryptPasswordEncoder bCryptPasswordEncoder,
+                                  PasswordHashingProperties passwordHashingProperties,
+                                  BCryptCostCalibrator bCryptCostCalibrator,
+                                  UserMapper userMapper,
+                                  MeterRegistry meterRegistry) {
+        this.bCryptPasswordEncoder = bCryptPasswordEncoder;
+        this.passwordHashingProperties = passwordHashingProperties;
+        this.userMapper = userMapper;
+        this.targetCost = bCryptCostCalibrator.getCost();
+
+        int threads = passwordHashingProperties.getThreads() > 0
+                ? passwordHashingProperties.getThreads()
+                : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(passwordHashingProperties.getQueueCapacity()),
+                new PasswordHashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.waitTimer = Timer.builder("auth.password.hash.wait")
+                .description("bcrypt 작업이 대기열에서 기다린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.executionTimer = Timer.builder("auth.password.hash.execution")
+                .description("bcrypt 작업 실행 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.hash.rejected")
+                .description("대기열이 가득 차 거절된 bcrypt 작업 수")
+                .register(meterRegistry);
+        this.rehashedCounter = Counter.builder("auth.password.rehashed")
+                .description("cost 변경으로 다시 해싱해 저장한 비밀번호 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.queue.depth", executor, e -> e.getQueue().size())
+                .description("bcrypt 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("bcrypt 를 실행 중인 스레드 수")
+                .register(meterRegistry);
+        log.info("bcrypt 전용 executor 생성 (threads={}, queueCapacity={}, cost={})",
+                threads, passwordHashingProperties.getQueueCapacity(), targetCost);
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> bCryptPasswordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public String encode(String rawPassword) {
+        return execute(() -> bCryptPasswordEncoder.encode(rawPassword));
+    }
+
+    public boolean needsRehash(String encodedPassword) {
+        int cost = BCryptCostCalibrator.costOf(encodedPassword);
+        return cost > 0 && cost < targetCost;
+    }
+
+    // 비밀번호 확인에 성공한 직후 호출. 대기열에 다른 작업이 있으면 로그인을 밀어내지 않도록 건너뛰고 다음 로그인에서 다시 시도한다.
+    public void rehashIfNeeded(Long userId, String rawPassword, String encodedPassword) {
+        if (!needsRehash(encodedPassword) || !executor.getQueue().isEmpty()) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    String rehashed = bCryptPasswordEncoder.encode(rawPassword);
+                    if (userMapper.updatePasswordIfUnchanged(userId, encodedPassword, rehashed) == 1) {
+                        rehashedCounter.increment();
+                    }
+                } catch (Exception e) {
+                    log.warn("비밀번호 재해싱 실패 (userId={}): {}", userId, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("bcrypt 대기열이 가득 차 재해싱을 건너뜀 (userId={})", userId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return executionTimer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingBusyException(passwordHashingProperties.getRetryAfter());
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 처리에 실패했습니다.", e.getCause());
+        }
+    }
+
+    private static class PasswordHashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
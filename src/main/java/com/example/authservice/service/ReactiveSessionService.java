@@ -0,0 +1,57 @@
+package com.example.authservice.service;
+
+import com.example.authservice.config.session.SessionProperties;
+import com.example.authservice.type.TokenRotationResult;
+import com.example.authservice.util.TokenDigestUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+
+// SessionService 의 토큰 교체를 ReactiveRedisTemplate 으로 수행하는 논블로킹 구현
+// Redis 응답을 기다리는 동안 호출 스레드를 점유하지 않는다. 키 레이아웃과 Lua 스크립트는 SessionService 와 같다.
+// 서블릿 스택에서는 비동기 요청으로 스레드를 돌려줄 수 있는 POST /auths/refresh 에서만 사용한다.
+// 인증 필터처럼 결과를 기다려야 하는 곳에서 block() 하면 워커 스레드를 그대로 붙잡으므로 SessionService 를 쓴다.
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "auth.session.reactive", name = "enabled", havingValue = "true")
+public class ReactiveSessionService {
+
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+    private final SessionService sessionService;
+    private final SessionProperties sessionProperties;
+
+    public Mono<TokenRotationResult> rotateTokens(Long userId,
+                                                  String presentedRefreshToken,
+                                                  String newAccessToken, Duration accessTokenTtl,
+                                                  String newRefreshToken, Duration refreshTokenTtl) {
+        long now = System.currentTimeMillis();
+        Mono<Long> result;
+        if (sessionProperties.getMultiDevice().isEnabled()) {
+            result = reactiveRedisTemplate.execute(
+                    MultiDeviceSessionService.ROTATE_SCRIPT,
+                    MultiDeviceSessionService.keys(userId),
+                    MultiDeviceSessionService.rotateArgs(
+                            TokenDigestUtil.digest(presentedRefreshToken),
+                            TokenDigestUtil.digest(newAccessToken), now + accessTokenTtl.toMillis(),
+                            TokenDigestUtil.digest(newRefreshToken), now + refreshTokenTtl.toMillis())
+            ).next();
+        } else {
+            result = reactiveRedisTemplate.execute(
+                    SessionService.ROTATE_TOKENS_SCRIPT,
+                    SessionService.rotationKeys(userId),
+                    SessionService.rotationArgs(presentedRefreshToken, newAccessToken, accessTokenTtl,
+                            newRefreshToken, refreshTokenTtl, now)
+            ).next();
+        }
+        // 캐시 무효화 메시지 발행은 블로킹 호출이므로 이벤트 루프 밖에서 처리
+        return result.defaultIfEmpty(0L)
+                .publishOn(Schedulers.boundedElastic())
+                .map(code -> sessionService.completeRotation(userId, code));
+    }
+}
@@ -0,0 +1,336 @@
+package com.example.authservice.service;
+
+import com.example.authservice.config.cache.AccountStatusCache;
+import com.example.authservice.config.cache.CacheInvalidator;
+import com.example.authservice.config.cache.SessionTokenNearCache;
+import com.example.authservice.config.session.SessionProperties;
+import com.example.authservice.dto.SessionStateDTO;
+import com.example.authservice.type.Status;
+import com.example.authservice.type.TokenRotationResult;
+import com.example.authservice.util.TokenDigestUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 사용자별 세션을 session:{id} 해시 하나에 보관한다.
+// access 다이제스트는 accessExpiresAt 으로 2시간 만료를 판단하고, 해시 키 TTL 은 refreshToken 수명(7일)을 따른다.
+// 이전 문자열 키(accessToken:, refreshToken:, accountStatus:)로 저장된 세션도 만료되거나 재발급될 때까지 함께 읽는다.
+// auth.session.multi-device.enabled=true 이면 토큰은 MultiDeviceSessionService 의 기기별 정렬 집합에 저장한다.
+@Service
+@RequiredArgsConstructor
+public class SessionService {
+
+    static final RedisScript<Long> ROTATE_TOKENS_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/rotate-refresh-token.lua"), Long.class);
+    private static final RedisScript<Long> UPDATE_SESSION_FIELDS_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/update-session-fields.lua"), Long.class);
+    private static final Duration ACCESS_TOKEN_TTL = Duration.ofHours(2);
+    private static final Duration REFRESH_TOKEN_TTL = Duration.ofDays(7);
+
+    private static final String FIELD_ACCESS = "access";
+    private static final String FIELD_ACCESS_EXPIRES_AT = "accessExpiresAt";
+    private static final String FIELD_REFRESH = "refresh";
+    private static final String FIELD_ISSUED_AT = "issuedAt";
+    private static final String FIELD_DEVICE = "device";
+    private static final String FIELD_STATUS = "status";
+    private static final List<String> LOOKUP_FIELDS = List.of(FIELD_ACCESS, FIELD_ACCESS_EXPIRES_AT, FIELD_STATUS);
+    private static final int MAX_DEVICE_LENGTH = 200;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SessionTokenNearCache sessionTokenNearCache;
+    private final AccountStatusCache accountStatusCache;
+    private final CacheInvalidator cacheInvalidator;
+    private final SessionProperties sessionProperties;
+    private final MultiDeviceSessionService multiDeviceSessionService;
+
+    public boolean isMultiDevice() {
+        return sessionProperties.getMultiDevice().isEnabled();
+    }
+
+    // 로그인/회원가입 시 세션 해시를 새로 쓰고 이전 레이아웃 키는 한 번의 파이프라인으로 정리
+    public void saveSession(Long userId, String accessToken, String refreshToken, Status status) {
+        long now = System.currentTimeMillis();
+        if (isMultiDevice()) {
+            multiDeviceSessionService.save(userId,
+                    TokenDigestUtil.digest(accessToken), now + ACCESS_TOKEN_TTL.toMillis(),
+                    TokenDigestUtil.digest(refreshToken), now + REFRESH_TOKEN_TTL.toMillis(),
+                    currentDevice(), status);
+            cacheInvalidator.invalidateSession(userId);
+            return;
+        }
+
+        Map<String, String> fields = new HashMap<>();
+        fields.put(FIELD_ACCESS, TokenDigestUtil.digest(accessToken));
+        fields.put(FIELD_ACCESS_EXPIRES_AT, String.valueOf(now + ACCESS_TOKEN_TTL.toMillis()));
+        fields.put(FIELD_REFRESH, TokenDigestUtil.digest(refreshToken));
+        fields.put(FIELD_ISSUED_AT, String.valueOf(now));
+        fields.put(FIELD_DEVICE, currentDevice());
+        if (status != null) {
+            fields.put(FIELD_STATUS, status.name());
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForHash().putAll(sessionKey(userId), fields);
+                ops.expire(sessionKey(userId), REFRESH_TOKEN_TTL);
+                ops.delete(legacyKeys(userId));
+                return null;
+            }
+        });
+        cacheInvalidator.invalidateSession(userId);
+    }
+
+    // 닉네임/프로필 변경으로 accessToken 만 재발급하는 경우 (다중 기기 모드에서는 이전 토큰의 기기 세션만 교체)
+    public void saveAccessToken(Long userId, String previousAccessToken, String accessToken) {
+        String accessTokenDigest = TokenDigestUtil.digest(accessToken);
+        long accessExpiresAt = System.currentTimeMillis() + ACCESS_TOKEN_TTL.toMillis();
+        if (isMultiDevice()) {
+            multiDeviceSessionService.replaceAccess(userId,
+                    TokenDigestUtil.digest(previousAccessToken), accessTokenDigest, accessExpiresAt);
+            cacheInvalidator.invalidateSession(userId);
+            return;
+        }
+
+        Long updated = redisTemplate.execute(
+                UPDATE_SESSION_FIELDS_SCRIPT,
+                List.of(sessionKey(userId)),
+                FIELD_ACCESS, accessTokenDigest,
+                FIELD_ACCESS_EXPIRES_AT, String.valueOf(accessExpiresAt)
+        );
+        if (updated == null || updated == 0) {
+            // 이전 레이아웃 세션은 refreshToken 재발급 시 해시로 옮겨진다.
+            redisTemplate.opsForValue().set("accessToken:" + userId, accessTokenDigest, ACCESS_TOKEN_TTL);
+        }
+        cacheInvalidator.invalidateSession(userId);
+    }
+
+    // 탈퇴 등으로 모든 세션을 지울 때 세션 해시, 기기별 세션, 이전 레이아웃 토큰 키를 한 번의 DEL 로 삭제
+    public void deleteSession(Long userId) {
+        List<String> keys = new ArrayList<>(MultiDeviceSessionService.sessionKeys(userId));
+        keys.add(sessionKey(userId));
+        keys.addAll(legacyKeys(userId));
+        redisTemplate.delete(keys);
+        cacheInvalidator.invalidateSession(userId);
+    }
+
+    // 로그아웃: 다중 기기 모드에서는 이 기기 세션만, 아니면 사용자 세션 전체를 삭제
+    public void endSession(Long userId, String accessToken, String refreshToken) {
+        if (!isMultiDevice()) {
+            deleteSession(userId);
+            return;
+        }
+        multiDeviceSessionService.remove(userId,
+                TokenDigestUtil.digest(accessToken),
+                refreshToken != null ? TokenDigestUtil.digest(refreshToken) : null);
+        cacheInvalidator.invalidateSession(userId);
+    }
+
+    // 기존 로그인 세션 존재 여부 (accessToken 이 만료되지 않은 경우만)
+    public boolean hasSession(Long userId) {
+        Object accessExpiresAt = redisTemplate.opsForHash().get(sessionKey(userId), FIELD_ACCESS_EXPIRES_AT);
+        if (accessExpiresAt != null) {
+            return !isExpired(accessExpiresAt);
+        }
+        return Boolean.TRUE.equals(redisTemplate.hasKey("accessToken:" + userId));
+    }
+
+    // 필터에 필요한 저장 토큰과 계정 상태를 로컬 캐시 또는 한 번의 파이프라인으로 조회
+    public SessionStateDTO getSessionState(Long userId, String presentedToken) {
+        String presentedDigest = TokenDigestUtil.digest(presentedToken);
+        SessionStateDTO cached = getCachedSessionState(userId, presentedDigest);
+        if (cached != null) {
+            return cached;
+        }
+
+        long nearCacheVersion = nearCacheVersion(userId);
+        Lookup lookup = isMultiDevice()
+                ? multiDeviceSessionService.lookup(userId, presentedDigest)
+                : lookup(userId, presentedDigest, presentedToken);
+        return toSessionState(userId, presentedDigest, lookup, nearCacheVersion);
+    }
+
+    // 단일 세션 레이아웃 조회: session:{id} HMGET 과 이전 레이아웃 MGET 을 한 번의 파이프라인으로
+    public Lookup lookup(Long userId, String presentedDigest, String presentedToken) {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForHash().multiGet(sessionKey(userId), List.<Object>copyOf(LOOKUP_FIELDS));
+                ops.opsForValue().multiGet(lookupLegacyKeys(userId));
+                return null;
+            }
+        });
+        return toLookup((List<?>) results.get(0), (List<?>) results.get(1), presentedDigest, presentedToken);
+    }
+
+    // 저장된 refreshToken 다이제스트와 비교 후 두 토큰을 한 번의 Redis 호출로 원자적으로 교체
+    // 이전 레이아웃 세션은 이 시점에 session:{id} 해시로 옮겨진다.
+    public TokenRotationResult rotateTokens(Long userId,
+                                            String presentedRefreshToken,
+                                            String newAccessToken, Duration accessTokenTtl,
+                                            String newRefreshToken, Duration refreshTokenTtl) {
+        long now = System.currentTimeMillis();
+        Long result;
+        if (isMultiDevice()) {
+            result = multiDeviceSessionService.rotate(userId,
+                    TokenDigestUtil.digest(presentedRefreshToken),
+                    TokenDigestUtil.digest(newAccessToken), now + accessTokenTtl.toMillis(),
+                    TokenDigestUtil.digest(newRefreshToken), now + refreshTokenTtl.toMillis());
+        } else {
+            result = redisTemplate.execute(
+                    ROTATE_TOKENS_SCRIPT,
+                    rotationKeys(userId),
+                    rotationArgs(presentedRefreshToken, newAccessToken, accessTokenTtl, newRefreshToken, refreshTokenTtl, now)
+                            .toArray()
+            );
+        }
+        return completeRotation(userId, result);
+    }
+
+    // near-cache 와 상태 캐시가 모두 맞으면 Redis 조회 없이 반환 (리액티브 경로와 공용)
+    SessionStateDTO getCachedSessionState(Long userId, String presentedDigest) {
+        String cachedDigest = sessionTokenNearCache.getIfMatches(userId, presentedDigest);
+        Status cachedStatus = accountStatusCache.getIfPresent(userId);
+        if (cachedDigest == null || cachedStatus == null) {
+            return null;
+        }
+        return SessionStateDTO.builder()
+                .exists(true)
+                .current(true)
+                .status(cachedStatus)
+                .build();
+    }
+
+    long nearCacheVersion(Long userId) {
+        return sessionTokenNearCache.version(userId);
+    }
+
+    // Redis 조회 결과를 near-cache, 상태 캐시에 반영해 필터 응답으로 변환
+    // 상태가 미러링되기 전에 만들어진 세션이면 DB(상태 캐시)로 대체하므로 블로킹될 수 있다.
+    // nearCacheVersion 은 Redis 조회 전에 읽은 near-cache 버전 (그 사이 무효화되면 near-cache 에 넣지 않는다)
+    SessionStateDTO toSessionState(Long userId, String presentedDigest, Lookup lookup, long nearCacheVersion) {
+        // 기기가 여러 개일 수 있으므로 일치한 다이제스트만 보관
+        sessionTokenNearCache.put(userId, lookup.current() ? presentedDigest : null, nearCacheVersion);
+
+        Status status;
+        if (lookup.status() != null) {
+            status = Status.valueOf(lookup.status());
+            accountStatusCache.put(userId, status);
+        } else {
+            status = accountStatusCache.get(userId);
+        }
+
+        return SessionStateDTO.builder()
+                .exists(lookup.exists())
+                .current(lookup.current())
+                .status(status)
+                .build();
+    }
+
+    // 교체 스크립트 결과(1 = 성공, 0 = 세션 없음, -1 = 불일치)를 해석하고 성공 시 캐시 무효화
+    TokenRotationResult completeRotation(Long userId, Long result) {
+        if (result == null || result == 0) {
+            return TokenRotationResult.NOT_FOUND;
+        }
+        if (result == 1) {
+            cacheInvalidator.invalidateSession(userId);
+            return TokenRotationResult.ROTATED;
+        }
+        return TokenRotationResult.MISMATCH;
+    }
+
+    private static List<String> lookupLegacyKeys(Long userId) {
+        return List.of("accessToken:" + userId, "accountStatus:" + userId);
+    }
+
+    // session:{id} 의 LOOKUP_FIELDS 값과 이전 레이아웃 값을 해석 (해시가 있으면 해시 우선)
+    private static Lookup toLookup(List<?> sessionValues, List<?> legacyValues, String presentedDigest, String presentedToken) {
+        String savedToken;
+        String savedStatus;
+        if (sessionValues.get(0) != null) {
+            savedToken = isExpired(sessionValues.get(1)) ? null : (String) sessionValues.get(0);
+            savedStatus = (String) sessionValues.get(2);
+        } else {
+            savedToken = (String) legacyValues.get(0);
+            savedStatus = (String) legacyValues.get(1);
+        }
+        // 배포 전에 저장된 JWT 원문과도 비교
+        boolean current = TokenDigestUtil.matches(savedToken, presentedDigest, presentedToken);
+        return new Lookup(savedToken != null, current, savedStatus);
+    }
+
+    static List<String> rotationKeys(Long userId) {
+        return List.of(sessionKey(userId), "refreshToken:" + userId, "accessToken:" + userId, "accountStatus:" + userId);
+    }
+
+    static List<String> rotationArgs(String presentedRefreshToken,
+                                     String newAccessToken, Duration accessTokenTtl,
+                                     String newRefreshToken, Duration refreshTokenTtl,
+                                     long now) {
+        return List.of(
+                TokenDigestUtil.digest(presentedRefreshToken),
+                TokenDigestUtil.digest(newAccessToken), String.valueOf(now + accessTokenTtl.toMillis()),
+                TokenDigestUtil.digest(newRefreshToken), String.valueOf(refreshTokenTtl.toMillis()),
+                presentedRefreshToken,
+                String.valueOf(now)
+        );
+    }
+
+    // 계정 상태 변경을 세션 해시(없으면 이전 레이아웃 키)와 각 파드의 상태 캐시에 반영
+    public void saveStatus(Long userId, Status status) {
+        Long updated = redisTemplate.execute(
+                UPDATE_SESSION_FIELDS_SCRIPT,
+                List.of(sessionKey(userId)),
+                FIELD_STATUS, status.name()
+        );
+        if (updated == null || updated == 0) {
+            redisTemplate.opsForValue().set("accountStatus:" + userId, status.name(), REFRESH_TOKEN_TTL);
+        }
+        cacheInvalidator.invalidateStatus(userId);
+    }
+
+    static String sessionKey(Long userId) {
+        return "session:" + userId;
+    }
+
+    private static List<String> legacyKeys(Long userId) {
+        return List.of("accessToken:" + userId, "refreshToken:" + userId, "accountStatus:" + userId);
+    }
+
+    private static boolean isExpired(Object accessExpiresAt) {
+        return accessExpiresAt == null || Long.parseLong((String) accessExpiresAt) <= System.currentTimeMillis();
+    }
+
+    // 로그인 요청의 User-Agent 를 기기 정보로 기록 (요청 컨텍스트 밖이면 unknown)
+    private static String currentDevice() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            String userAgent = attributes.getRequest().getHeader(HttpHeaders.USER_AGENT);
+            if (userAgent != null && !userAgent.isBlank()) {
+                return userAgent.length() > MAX_DEVICE_LENGTH ? userAgent.substring(0, MAX_DEVICE_LENGTH) : userAgent;
+            }
+        }
+        return "unknown";
+    }
+
+    // Redis 에서 읽은 세션 상태 (exists = 유효한 세션이 있는지, current = 제시된 토큰이 그 세션인지)
+    public record Lookup(boolean exists, boolean current, String status) {
+    }
+}
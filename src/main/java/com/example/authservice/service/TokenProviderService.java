@@ -1,18 +1,19 @@
 package com.example.authservice.service;
 
+import com.example.authservice.config.jwt.JwtKeyHolder;
 import com.example.authservice.config.jwt.JwtProperties;
+import com.example.authservice.config.jwt.VerifiedTokenCache;
 import com.example.authservice.dto.ClaimsRequestDTO;
 import com.example.authservice.dto.ClaimsResponseDTO;
+import com.example.authservice.dto.TokenVerificationResultDTO;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.time.Duration;
-import java.util.Base64;
 import java.util.Date;
 
 import static io.jsonwebtoken.Header.JWT_TYPE;
@@ -24,6 +25,8 @@ import static io.jsonwebtoken.SignatureAlgorithm.HS512;
 public class TokenProviderService {
 
     private final JwtProperties jwtProperties;
+    private final JwtKeyHolder jwtKeyHolder;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     public String generateToken(ClaimsRequestDTO claimsRequestDTO, Duration expiration) {
         Date now = new Date();
@@ -37,23 +40,36 @@ public class TokenProviderService {
                 .setSubject(String.valueOf(claimsRequestDTO.getUserId()))
                 .claim("nickname", claimsRequestDTO.getNickname())
                 .claim("profileImage", claimsRequestDTO.getProfileImage() != null ? claimsRequestDTO.getProfileImage() : null)
-                .signWith(getSecretKey(), HS512)
+                .signWith(jwtKeyHolder.getSecretKey(), HS512)
                 .compact();
     }
 
-    public int validateToken(String token) {
+    // 서명 검증과 Claims 추출을 한 번의 파싱으로 처리
+    public TokenVerificationResultDTO verify(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(getSecretKey()).build().parseClaimsJws(token);
-            return 1;
+            return TokenVerificationResultDTO.valid(getAuthentication(token));
         } catch (ExpiredJwtException e) {
-            return 2;
+            return TokenVerificationResultDTO.expired();
         } catch (Exception e) {
-            return 3;
+            return TokenVerificationResultDTO.malformed();
         }
     }
 
+    // 이미 검증된 토큰이면 캐시된 Claims 를 반환하고, 아니면 검증 후 만료 시각까지 캐시
     public ClaimsResponseDTO getAuthentication(String token) {
+        SecretKey signingKey = jwtKeyHolder.getSecretKey();
+        ClaimsResponseDTO cached = verifiedTokenCache.get(token, signingKey);
+        if (cached != null) {
+            return cached;
+        }
+
         Claims claims = getClaims(token);
+        ClaimsResponseDTO claimsResponse = toClaimsResponse(claims);
+        verifiedTokenCache.put(token, claimsResponse, claims.getExpiration(), signingKey);
+        return claimsResponse;
+    }
+
+    private ClaimsResponseDTO toClaimsResponse(Claims claims) {
         return ClaimsResponseDTO.builder()
                 .id(Long.valueOf(claims.getSubject()))
                 .nickname(claims.get("nickname", String.class))
@@ -62,15 +78,8 @@ public class TokenProviderService {
     }
 
     private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSecretKey())
-                .build()
+        return jwtKeyHolder.getParser()
                 .parseClaimsJws(token)
                 .getBody();
     }
-
-    private SecretKey getSecretKey() {
-        byte[] keyBytes = Base64.getDecoder().decode(jwtProperties.getSecretKey());
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
 }
@@ -1,13 +1,17 @@
 package com.example.authservice.service;
 
 import com.example.authservice.dto.*;
+import com.example.authservice.type.TokenRotationResult;
+import com.example.authservice.type.TokenStatus;
 import com.example.authservice.util.CookieUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 
@@ -16,69 +20,79 @@ import java.time.Duration;
 public class TokenService {
 
     private final TokenProviderService tokenProviderService;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final SessionService sessionService;
+    // auth.session.reactive.enabled=true 일 때만 등록된다
+    private final ObjectProvider<ReactiveSessionService> reactiveSessionService;
 
 
-    public ResponseEntity<RefreshTokenResponseDTO> refreshToken(String accessToken,
-                                                                HttpServletResponse response,
-                                                                HttpServletRequest request) {
-        // 1. accessToken 유효성 검사
-        int result = tokenProviderService.validateToken(accessToken);
-        if (result != 1) {
-            return ResponseEntity.status(HttpServletResponse.SC_UNAUTHORIZED).body(
-                    RefreshTokenResponseDTO.builder()
-                            .success(false)
-                            .message("유효하지 않은 액세스 토큰입니다.")
-                            .build()
-            );
+    public ResponseEntity<RefreshTokenResponseDTO> refreshToken(String accessToken, HttpServletRequest request) {
+        RefreshPlan plan = prepareRefresh(accessToken, request);
+        if (plan.rejection() != null) {
+            return plan.rejection();
         }
 
-        // 2. accessToken에서 userId 추출
-        ClaimsResponseDTO claims;
-        try {
-            claims = tokenProviderService.getAuthentication(accessToken);
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpServletResponse.SC_UNAUTHORIZED).body(
+        // 5. Redis의 refreshToken 다이제스트 비교 및 토큰 교체 (Lua 스크립트로 원자적으로 한 번에 처리)
+        TokenRotationResult rotationResult = sessionService.rotateTokens(
+                plan.userId(), plan.presentedRefreshToken(),
+                plan.newAccessToken(), Duration.ofMinutes(2),
+                plan.newRefreshToken(), Duration.ofDays(7)
+        );
+        return completeRefresh(plan, rotationResult);
+    }
+
+    // 5단계 Redis 교체를 ReactiveSessionService 로 수행 (auth.session.reactive.enabled=true 일 때만 호출된다)
+    // 교체 결과는 컨테이너 밖 스레드에서 처리되므로 HttpServletResponse 를 건드리지 않고 ResponseEntity 만 만든다
+    public Mono<ResponseEntity<RefreshTokenResponseDTO>> refreshTokenReactive(String accessToken, HttpServletRequest request) {
+        ReactiveSessionService reactiveSessionService = this.reactiveSessionService.getObject();
+        RefreshPlan plan = prepareRefresh(accessToken, request);
+        if (plan.rejection() != null) {
+            return Mono.just(plan.rejection());
+        }
+
+        return reactiveSessionService.rotateTokens(
+                plan.userId(), plan.presentedRefreshToken(),
+                plan.newAccessToken(), Duration.ofMinutes(2),
+                plan.newRefreshToken(), Duration.ofDays(7)
+        ).map(rotationResult -> completeRefresh(plan, rotationResult));
+    }
+
+    // 1~4단계: Redis 를 거치지 않는 검증과 새 토큰 생성
+    private RefreshPlan prepareRefresh(String accessToken, HttpServletRequest request) {
+        // 1. accessToken 유효성 검사 및 Claims 추출 (한 번만 파싱)
+        TokenVerificationResultDTO result = tokenProviderService.verify(accessToken);
+        if (!result.isValid()) {
+            return RefreshPlan.rejected(ResponseEntity.status(HttpServletResponse.SC_UNAUTHORIZED).body(
                     RefreshTokenResponseDTO.builder()
                             .success(false)
-                            .message("토큰 파싱 중 오류가 발생했습니다.")
+                            .message("유효하지 않은 액세스 토큰입니다.")
                             .build()
-            );
+            ));
         }
 
+        // 2. accessToken에서 userId 추출
+        ClaimsResponseDTO claims = result.getClaims();
         Long userId = claims.getId();
         if (userId == null) {
-            return ResponseEntity.status(HttpServletResponse.SC_UNAUTHORIZED).body(
+            return RefreshPlan.rejected(ResponseEntity.status(HttpServletResponse.SC_UNAUTHORIZED).body(
                     RefreshTokenResponseDTO.builder()
                             .success(false)
                             .message("토큰에 유효한 사용자 정보가 없습니다.")
                             .build()
-            );
+            ));
         }
 
         // 3. 쿠키에서 refreshToken 추출
         String refreshTokenFromCookie = CookieUtil.getCookieValue(request, "refreshToken");
         if (refreshTokenFromCookie == null) {
-            return ResponseEntity.status(HttpServletResponse.SC_UNAUTHORIZED).body(
+            return RefreshPlan.rejected(ResponseEntity.status(HttpServletResponse.SC_UNAUTHORIZED).body(
                     RefreshTokenResponseDTO.builder()
                             .success(false)
                             .message("리프레시 토큰이 존재하지 않습니다.")
                             .build()
-            );
+            ));
         }
 
-        // 4. Redis에서 저장된 refreshToken 확인
-        String savedRefreshToken = redisTemplate.opsForValue().get("refreshToken:" + userId);
-        if (savedRefreshToken == null || !savedRefreshToken.equals(refreshTokenFromCookie)) {
-            return ResponseEntity.status(HttpServletResponse.SC_UNAUTHORIZED).body(
-                    RefreshTokenResponseDTO.builder()
-                            .success(false)
-                            .message("유효하지 않은 리프레시 토큰입니다.")
-                            .build()
-            );
-        }
-
-        // 5. 새 토큰 생성
+        // 4. 새 토큰 생성
         ClaimsRequestDTO claimsRequestDTO = ClaimsRequestDTO.builder()
                 .nickname(claims.getNickname())
                 .profileImage(claims.getProfileImage())
@@ -88,31 +102,48 @@ public class TokenService {
         String newAccessToken = tokenProviderService.generateToken(claimsRequestDTO, Duration.ofMinutes(2));
         String newRefreshToken = tokenProviderService.generateToken(claimsRequestDTO, Duration.ofDays(7));
 
-        // 6. Redis 갱신 (accessToken, refreshToken)
-        redisTemplate.opsForValue().set("accessToken:" + userId, newAccessToken, Duration.ofMinutes(2));
-        redisTemplate.opsForValue().set("refreshToken:" + userId, newRefreshToken, Duration.ofDays(7));
+        return new RefreshPlan(null, userId, refreshTokenFromCookie, newAccessToken, newRefreshToken);
+    }
 
-        // 7. 쿠키 갱신
-        CookieUtil.deleteCookie(request, response, "refreshToken");
-        CookieUtil.addCookie(response, "refreshToken", newRefreshToken, 7 * 24 * 60 * 60);
+    private ResponseEntity<RefreshTokenResponseDTO> completeRefresh(RefreshPlan plan, TokenRotationResult rotationResult) {
+        if (rotationResult != TokenRotationResult.ROTATED) {
+            return ResponseEntity.status(HttpServletResponse.SC_UNAUTHORIZED).body(
+                    RefreshTokenResponseDTO.builder()
+                            .success(false)
+                            .message("유효하지 않은 리프레시 토큰입니다.")
+                            .build()
+            );
+        }
 
-        // 8. 성공 응답
-        return ResponseEntity.ok(
-                RefreshTokenResponseDTO.builder()
+        // 6. 쿠키 갱신 (같은 이름·경로의 쿠키를 덮어쓴다) 및 성공 응답
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE,
+                        CookieUtil.cookieHeader("refreshToken", plan.newRefreshToken(), 7 * 24 * 60 * 60))
+                .body(RefreshTokenResponseDTO.builder()
                         .success(true)
-                        .accessToken(newAccessToken)
+                        .accessToken(plan.newAccessToken())
                         .message("토큰이 성공적으로 재발급 되었습니다.")
-                        .build()
-        );
+                        .build());
+    }
+
+    private record RefreshPlan(ResponseEntity<RefreshTokenResponseDTO> rejection,
+                               Long userId,
+                               String presentedRefreshToken,
+                               String newAccessToken,
+                               String newRefreshToken) {
+
+        static RefreshPlan rejected(ResponseEntity<RefreshTokenResponseDTO> rejection) {
+            return new RefreshPlan(rejection, null, null, null, null);
+        }
     }
 
 
     public ValidTokenResponseDTO validateToken(String token) {
-        int result = tokenProviderService.validateToken(token);
+        TokenStatus status = tokenProviderService.verify(token).getStatus();
 
         return ValidTokenResponseDTO.builder()
-                .isValid(result == 1)
-                .message(result == 1 ? "유효한 토큰입니다." : result == 2 ? "만료된 토큰입니다." : "잘못된 토큰입니다.")
+                .isValid(status == TokenStatus.VALID)
+                .message(status == TokenStatus.VALID ? "유효한 토큰입니다." : status == TokenStatus.EXPIRED ? "만료된 토큰입니다." : "잘못된 토큰입니다.")
                 .build();
     }
 }
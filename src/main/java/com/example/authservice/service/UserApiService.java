@@ -5,6 +5,7 @@ import com.example.authservice.exception.ImageSizeExceededException;
 import com.example.authservice.exception.InvalidImageExtensionException;
 import com.example.authservice.mapper.UserMapper;
 import com.example.authservice.model.User;
+import com.example.authservice.model.UserClaims;
 import com.example.authservice.type.FileType;
 import com.example.authservice.type.Role;
 import com.example.authservice.util.BadWordFilter;
@@ -15,9 +16,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -32,10 +31,10 @@ public class UserApiService {
     private final TokenProviderService tokenProviderService;
     private final BadWordFilter badWordFilter;
     private final UserMapper userMapper;
-    private final RedisTemplate<String, String> redisTemplate;
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final S3Service s3Service;
     private final TokenUtil tokenUtil;
+    private final SessionService sessionService;
 
     public ResponseEntity<NicknameUpdateResponseDTO> updateNickname(String accessToken, String nickname) {
         String cleanBearerToken = tokenUtil.cleanBearerToken(accessToken);
@@ -63,15 +62,15 @@ public class UserApiService {
         try {
             userMapper.updateNickname(userId, nickname);
 
-            User updatedUser = userMapper.findById(userId);
+            UserClaims updatedUser = userMapper.findClaimsById(userId);
             ClaimsRequestDTO newClaims = ClaimsRequestDTO.builder()
                     .userId(userId)
-                    .nickname(updatedUser.getNickname())
-                    .profileImage(updatedUser.getProfileImage())
+                    .nickname(updatedUser.nickname())
+                    .profileImage(updatedUser.profileImage())
                     .build();
 
             String newAccessToken = tokenProviderService.generateToken(newClaims, Duration.ofHours(2));
-            redisTemplate.opsForValue().set("accessToken:" + userId, newAccessToken, Duration.ofHours(2));
+            sessionService.saveAccessToken(userId, cleanBearerToken, newAccessToken);
 
             return ResponseEntity.ok(
                     NicknameUpdateResponseDTO.builder()
@@ -107,7 +106,7 @@ public class UserApiService {
             );
         }
 
-        if (!bCryptPasswordEncoder.matches(currentPassword, user.getPassword())) {
+        if (!passwordHashingService.matches(currentPassword, user.getPassword())) {
             return ResponseEntity.badRequest().body(
                     PasswordUpdateResponseDTO.builder()
                             .success(false)
@@ -125,8 +124,9 @@ public class UserApiService {
             );
         }
 
+        // 대기열 초과(503)가 아래 catch 에서 500 으로 바뀌지 않도록 try 밖에서 해싱
+        String encodedPassword = passwordHashingService.encode(newPassword);
         try {
-            String encodedPassword = bCryptPasswordEncoder.encode(newPassword);
             userMapper.updatePassword(userId, encodedPassword);
 
             return ResponseEntity.ok(
@@ -153,9 +153,8 @@ public class UserApiService {
             // 계정 비활성화 처리
             userMapper.deactivateUser(userId);
 
-            // Redis에서 토큰 삭제
-            redisTemplate.delete("accessToken:" + userId);
-            redisTemplate.delete("refreshToken:" + userId);
+            // Redis에서 토큰 삭제 (세션이 없으면 필터가 남은 accessToken 을 거절하므로 상태를 따로 남기지 않는다)
+            sessionService.deleteSession(userId);
 
             // 쿠키 제거
             CookieUtil.deleteCookie(request, response, "refreshToken");
@@ -203,15 +202,15 @@ public class UserApiService {
             String imageUrl = s3Service.upload(profileImage, FileType.IMAGE);
             userMapper.updateProfileImage(userId, imageUrl);
 
-            User updatedUser = userMapper.findById(userId);
+            UserClaims updatedUser = userMapper.findClaimsById(userId);
             ClaimsRequestDTO newClaims = ClaimsRequestDTO.builder()
                     .userId(userId)
-                    .nickname(updatedUser.getNickname())
-                    .profileImage(updatedUser.getProfileImage())
+                    .nickname(updatedUser.nickname())
+                    .profileImage(updatedUser.profileImage())
                     .build();
 
             String newAccessToken = tokenProviderService.generateToken(newClaims, Duration.ofHours(2));
-            redisTemplate.opsForValue().set("accessToken:" + userId, newAccessToken, Duration.ofHours(2));
+            sessionService.saveAccessToken(userId, cleanBearerToken, newAccessToken);
 
             return ResponseEntity.ok(
                     ProfileImageUpdateResponseDTO.builder()
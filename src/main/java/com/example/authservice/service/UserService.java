@@ -5,6 +5,7 @@ import com.example.authservice.exception.ImageSizeExceededException;
 import com.example.authservice.exception.InvalidImageExtensionException;
 import com.example.authservice.mapper.UserMapper;
 import com.example.authservice.model.User;
+import com.example.authservice.model.UserCredential;
 import com.example.authservice.type.FileType;
 import com.example.authservice.type.Role;
 import com.example.authservice.type.Status;
@@ -16,7 +17,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -36,11 +36,13 @@ public class UserService {
     private final UserMapper userMapper;
     private final TokenProviderService tokenProviderService;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
-    private final RedisTemplate<String, String> redisTemplate;
     private final EmailVerificationService emailVerificationService;
     private final BadWordFilter badWordFilter;
     private final S3Service s3Service;
     private final TokenUtil tokenUtil;
+    private final SessionService sessionService;
+    private final PasswordHashingService passwordHashingService;
+    private final LoginCoalescingService loginCoalescingService;
 
     public ResponseEntity<UserJoinResponseDTO> save(UserJoinRequestDTO userJoinRequestDTO, MultipartFile profileImage, HttpServletResponse response) {
         ValidationResultDTO validationResult = Validator.validateUserInput(
@@ -130,8 +132,7 @@ public class UserService {
             String accessToken = tokenProviderService.generateToken(claimsRequestDTO, Duration.ofHours(2));
             String refreshToken = tokenProviderService.generateToken(claimsRequestDTO, Duration.ofDays(7));
 
-            redisTemplate.opsForValue().set("accessToken:" + id, accessToken, Duration.ofHours(2));
-            redisTemplate.opsForValue().set("refreshToken:" + id, refreshToken, Duration.ofDays(7));
+            sessionService.saveSession(id, accessToken, refreshToken, user.getStatus());
 
             CookieUtil.addCookie(response, "refreshToken", refreshToken, 7 * 24 * 60 * 60);
             emailVerificationService.deleteEmailVerification(user.getEmail());
@@ -156,103 +157,78 @@ public class UserService {
 
 
     public ResponseEntity<UserLoginResponseDTO> login(String email, String password, HttpServletResponse response) {
-        User user = userMapper.findByEmail(email);
+        // 동시에 들어온 같은 로그인 요청은 한 번만 처리하고, 쿠키는 각 응답에 따로 쓴다
+        return loginCoalescingService.execute("login", email, password, () -> authenticate(email, password))
+                .respond(response);
+    }
+
+    public ResponseEntity<UserLoginResponseDTO> forceLogin(String email, String password, HttpServletResponse response) {
+        return loginCoalescingService.execute("force-login", email, password, () -> forceAuthenticate(email, password))
+                .respond(response);
+    }
+
+    private LoginResult authenticate(String email, String password) {
+        UserCredential user = userMapper.findCredentialByEmail(email);
 
         // 1. 유저 존재 여부 및 비밀번호 체크
-        if (user == null || !bCryptPasswordEncoder.matches(password, user.getPassword())) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
-                    UserLoginResponseDTO.builder()
-                            .loggedIn(false)
-                            .message("이메일 또는 비밀번호가 일치하지 않습니다.")
-                            .build()
-            );
+        if (user == null || !passwordHashingService.matches(password, user.password())) {
+            return LoginResult.failed(HttpStatus.UNAUTHORIZED, "이메일 또는 비밀번호가 일치하지 않습니다.");
         }
 
-        if (user.getStatus() != Status.ACTIVE) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
-                    UserLoginResponseDTO.builder()
-                            .loggedIn(false)
-                            .message("활동 정지된 계정입니다.")
-                            .build()
-            );
+        if (user.status() != Status.ACTIVE) {
+            return LoginResult.failed(HttpStatus.FORBIDDEN, "활동 정지된 계정입니다.");
         }
+        passwordHashingService.rehashIfNeeded(user.id(), password, user.password());
 
-        // 기존 로그인 세션 감지
-        String existingAccessToken = redisTemplate.opsForValue().get("accessToken:" + user.getId());
-        if (existingAccessToken != null) {
-            return ResponseEntity.status(HttpStatus.CONFLICT).body(
-                    UserLoginResponseDTO.builder()
-                            .loggedIn(false)
-                            .message("현재 계정은 다른 브라우저에서 로그인 중입니다.\n계속 진행하시겠습니까?\n\n(로그인 시 기존 로그인된 계정은 로그아웃 됩니다.)")
-                            .build()
-            );
+        // 기존 로그인 세션 감지 (다중 기기 모드에서는 새 기기 세션으로 추가)
+        if (!sessionService.isMultiDevice() && sessionService.hasSession(user.id())) {
+            return LoginResult.failed(HttpStatus.CONFLICT,
+                    "현재 계정은 다른 브라우저에서 로그인 중입니다.\n계속 진행하시겠습니까?\n\n(로그인 시 기존 로그인된 계정은 로그아웃 됩니다.)");
         }
 
-
-        ClaimsRequestDTO claimsRequestDTO = ClaimsRequestDTO.builder()
-                .userId(user.getId())
-                .nickname(user.getNickname())
-                .profileImage(user.getProfileImage())
-                .build();
-
-        String accessToken = tokenProviderService.generateToken(claimsRequestDTO, Duration.ofHours(2));
-        String refreshToken = tokenProviderService.generateToken(claimsRequestDTO, Duration.ofDays(7));
-
-        redisTemplate.opsForValue().set("accessToken:" + user.getId(), accessToken, Duration.ofHours(2));
-        redisTemplate.opsForValue().set("refreshToken:" + user.getId(), refreshToken, Duration.ofDays(7));
-
-        CookieUtil.addCookie(response, "refreshToken", refreshToken, 7 * 24 * 60 * 60);
-
-        return ResponseEntity.ok(
-                UserLoginResponseDTO.builder()
-                        .loggedIn(true)
-                        .accessToken(accessToken)
-                        .message("환영합니다 " + user.getNickname() + " 님")
-                        .build()
-        );
+        return issueSession(user);
     }
 
-    public ResponseEntity<UserLoginResponseDTO> forceLogin(String email, String password, HttpServletResponse response) {
-        User user = userMapper.findByEmail(email);
+    private LoginResult forceAuthenticate(String email, String password) {
+        UserCredential user = userMapper.findCredentialByEmail(email);
 
-        if (user == null || !bCryptPasswordEncoder.matches(password, user.getPassword())) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
-                    UserLoginResponseDTO.builder()
-                            .loggedIn(false)
-                            .message("이메일 또는 비밀번호가 일치하지 않습니다.")
-                            .build()
-            );
+        if (user == null || !passwordHashingService.matches(password, user.password())) {
+            return LoginResult.failed(HttpStatus.UNAUTHORIZED, "이메일 또는 비밀번호가 일치하지 않습니다.");
+        }
+        // 정지된 계정의 해시는 건드리지 않는다
+        if (user.status() == Status.ACTIVE) {
+            passwordHashingService.rehashIfNeeded(user.id(), password, user.password());
         }
 
+        return issueSession(user);
+    }
+
+    private LoginResult issueSession(UserCredential user) {
         ClaimsRequestDTO claimsRequestDTO = ClaimsRequestDTO.builder()
-                .userId(user.getId())
-                .nickname(user.getNickname())
-                .profileImage(user.getProfileImage())
+                .userId(user.id())
+                .nickname(user.nickname())
+                .profileImage(user.profileImage())
                 .build();
 
         String accessToken = tokenProviderService.generateToken(claimsRequestDTO, Duration.ofHours(2));
         String refreshToken = tokenProviderService.generateToken(claimsRequestDTO, Duration.ofDays(7));
 
-        redisTemplate.opsForValue().set("accessToken:" + user.getId(), accessToken, Duration.ofHours(2));
-        redisTemplate.opsForValue().set("refreshToken:" + user.getId(), refreshToken, Duration.ofDays(7));
-
-        CookieUtil.addCookie(response, "refreshToken", refreshToken, 7 * 24 * 60 * 60);
+        sessionService.saveSession(user.id(), accessToken, refreshToken, user.status());
 
-        return ResponseEntity.ok(
+        return new LoginResult(HttpStatus.OK,
                 UserLoginResponseDTO.builder()
                         .loggedIn(true)
                         .accessToken(accessToken)
-                        .message("환영합니다 " + user.getNickname() + " 님")
-                        .build()
-        );
+                        .message("환영합니다 " + user.nickname() + " 님")
+                        .build(),
+                refreshToken);
     }
 
     public ResponseEntity<UserLoginResponseDTO> logout(String accessToken, HttpServletRequest request, HttpServletResponse response) {
     try {
         String cleanBearerToken = tokenUtil.cleanBearerToken(accessToken);
         Long id = tokenProviderService.getAuthentication(cleanBearerToken).getId();
-        redisTemplate.delete("accessToken:" + id);
-        redisTemplate.delete("refreshToken:" + id);
+        sessionService.endSession(id, cleanBearerToken, CookieUtil.getCookieValue(request, "refreshToken"));
 
         CookieUtil.deleteCookie(request, response, "refreshToken");
         System.out.println("cookie: " + request.getCookies().toString());
@@ -292,4 +268,24 @@ public class UserService {
             return Collections.emptyList();
         }
     }
-}
\ No newline at end of file
+
+    // 합쳐진 요청들이 공유하는 로그인 결과. refreshToken 쿠키는 요청마다 각자의 응답에 쓴다.
+    private record LoginResult(HttpStatus status, UserLoginResponseDTO body, String refreshToken) {
+
+        static LoginResult failed(HttpStatus status, String message) {
+            return new LoginResult(status,
+                    UserLoginResponseDTO.builder()
+                            .loggedIn(false)
+                            .message(message)
+                            .build(),
+                    null);
+        }
+
+        ResponseEntity<UserLoginResponseDTO> respond(HttpServletResponse response) {
+            if (refreshToken != null) {
+                CookieUtil.addCookie(response, "refreshToken", refreshToken, 7 * 24 * 60 * 60);
+            }
+            return ResponseEntity.status(status).body(body);
+        }
+    }
+}
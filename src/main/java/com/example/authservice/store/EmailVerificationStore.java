@@ -0,0 +1,19 @@
+package com.example.authservice.store;
+
+import com.example.authservice.model.EmailVerification;
+
+import java.sql.Timestamp;
+
+// 이메일 인증 코드 저장소. EmailVerificationMapper(MySQL)와 RedisEmailVerificationStore 가 구현한다.
+public interface EmailVerificationStore {
+
+    // 새 코드를 저장하거나 미인증 코드를 교체한다. 이미 인증된 이메일이면 바꾸지 않고 0 을 돌려준다
+    int upsertEmailCode(String email, String code, Timestamp createdAt);
+
+    EmailVerification findByEmail(String email);
+
+    // 코드가 일치하고 notBefore 이후에 발급된 미인증 코드만 인증 처리한다. 처리했으면 1, 아니면 0
+    int verifyEmailCode(String email, String code, Timestamp notBefore);
+
+    void deleteByEmail(String email);
+}
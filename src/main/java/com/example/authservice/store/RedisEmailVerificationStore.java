@@ -0,0 +1,75 @@
+package com.example.authservice.store;
+
+import com.example.authservice.config.verification.EmailVerificationProperties;
+import com.example.authservice.model.EmailVerification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// 이메일마다 emailVerification:{email} 해시 하나 (code, verified, createdAt) 에 TTL 을 걸어 보관한다.
+// 만료된 코드는 Redis 가 지우므로 MySQL 테이블처럼 쌓이지 않는다.
+@Component
+@Primary
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "auth.email-verification", name = "store", havingValue = "redis", matchIfMissing = true)
+public class RedisEmailVerificationStore implements EmailVerificationStore {
+
+    private static final RedisScript<Long> ISSUE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/email-verification-issue.lua"), Long.class);
+    private static final RedisScript<Long> VERIFY_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/email-verification-verify.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final EmailVerificationProperties emailVerificationProperties;
+
+    static String key(String email) {
+        // MySQL 의 대소문자 무시 비교와 같게 소문자로 통일
+        return "emailVerification:" + email.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public int upsertEmailCode(String email, String code, Timestamp createdAt) {
+        Long issued = redisTemplate.execute(ISSUE_SCRIPT, List.of(key(email)),
+                code,
+                String.valueOf(createdAt.getTime()),
+                String.valueOf(emailVerificationProperties.getCodeTtl().toMillis()));
+        return issued != null ? issued.intValue() : 0;
+    }
+
+    @Override
+    public EmailVerification findByEmail(String email) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(key(email));
+        if (fields.isEmpty()) {
+            return null;
+        }
+        return EmailVerification.builder()
+                .email(email)
+                .code((String) fields.get("code"))
+                .isVerified(Boolean.parseBoolean((String) fields.get("verified")))
+                .createdAt(new Timestamp(Long.parseLong((String) fields.get("createdAt"))))
+                .build();
+    }
+
+    @Override
+    public int verifyEmailCode(String email, String code, Timestamp notBefore) {
+        Long verified = redisTemplate.execute(VERIFY_SCRIPT, List.of(key(email)),
+                code,
+                String.valueOf(notBefore.getTime()),
+                String.valueOf(emailVerificationProperties.getVerifiedTtl().toMillis()));
+        return verified != null ? verified.intValue() : 0;
+    }
+
+    @Override
+    public void deleteByEmail(String email) {
+        redisTemplate.delete(key(email));
+    }
+}
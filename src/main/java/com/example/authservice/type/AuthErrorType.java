@@ -0,0 +1,16 @@
+package com.example.authservice.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum AuthErrorType {
+    TOKEN_EXPIRED(40102, "토큰이 만료되었습니다."),
+    INVALID_TOKEN(40103, "비정상적인 접근입니다."),
+    DUPLICATE_LOGIN(40104, "다른 기기에서 로그인되었습니다."),
+    INACTIVE_ACCOUNT(40301, "비활성화된 계정입니다. 관리자에게 문의하세요.");
+
+    private final int code;
+    private final String message;
+}
@@ -0,0 +1,7 @@
+package com.example.authservice.type;
+
+public enum TokenRotationResult {
+    ROTATED,
+    NOT_FOUND,
+    MISMATCH
+}
@@ -3,6 +3,7 @@ package com.example.authservice.util;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ResponseCookie;
 
 public class CookieUtil {
     // 쿠키 추가
@@ -15,6 +16,17 @@ public class CookieUtil {
         response.addCookie(cookie);
     }
 
+    // ResponseEntity 의 Set-Cookie 헤더로 내려줄 쿠키 (addCookie 와 같은 속성)
+    public static String cookieHeader(String name, String value, int maxAge) {
+        return ResponseCookie.from(name, value)
+                .httpOnly(true)
+                .secure(false)
+                .path("/")
+                .maxAge(maxAge)
+                .build()
+                .toString();
+    }
+
     // 쿠키 삭제
     public static void deleteCookie(HttpServletRequest request, HttpServletResponse response, String name) {
         Cookie[] cookies = request.getCookies();
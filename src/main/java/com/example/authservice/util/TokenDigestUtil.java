@@ -0,0 +1,29 @@
+package com.example.authservice.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+public class TokenDigestUtil {
+
+    // SHA-256 앞 16바이트(128bit)만 사용 → Base64URL 22자
+    private static final int DIGEST_BYTES = 16;
+
+    // Redis 세션 키와 로컬 캐시에 JWT 원문 대신 저장하는 고정 길이 다이제스트
+    public static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, DIGEST_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // 저장된 값이 다이제스트이거나, 배포 전에 저장된 JWT 원문인 경우 모두 비교
+    public static boolean matches(String saved, String presentedDigest, String presentedToken) {
+        return saved != null && (saved.equals(presentedDigest) || saved.equals(presentedToken));
+    }
+}
@@ -0,0 +1,22 @@
+-- auth.email-verification.store=mysql 에서 쓰는 email_verification 테이블 (스키마는 이 저장소 밖에서 관리한다)
+-- EmailVerificationMapper.upsertEmailCode 는 INSERT ... ON DUPLICATE KEY UPDATE 로 코드를 교체하므로
+-- email 단독 UNIQUE 제약이 반드시 있어야 한다. 없으면 재발송마다 행이 늘고 findByEmail 이 TooManyResultsException 을 낸다.
+-- 기동 시 EmailVerificationSchemaValidator 가 이 제약을 확인하고, 없으면 애플리케이션을 띄우지 않는다.
+
+CREATE TABLE IF NOT EXISTS email_verification (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    email VARCHAR(255) NOT NULL,
+    code VARCHAR(10) NOT NULL,
+    is_verified BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_email_verification_email UNIQUE (email)
+);
+
+-- 만료 행 정리(EmailVerificationPurgeService)가 created_at 범위로 스캔한다
+CREATE INDEX idx_email_verification_created_at ON email_verification (created_at);
+
+-- 이미 운영 중인 테이블에 적용할 때: 중복 행을 먼저 정리한 뒤 제약과 인덱스를 추가한다
+-- DELETE older FROM email_verification older
+--     JOIN email_verification newer ON newer.email = older.email AND newer.id > older.id;
+-- ALTER TABLE email_verification ADD CONSTRAINT uk_email_verification_email UNIQUE (email);
+-- ALTER TABLE email_verification ADD INDEX idx_email_verification_created_at (created_at);
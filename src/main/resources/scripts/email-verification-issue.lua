@@ -0,0 +1,9 @@
+-- 코드 발급: 이미 인증된 이메일이면 그대로 두고 0, 아니면 코드를 교체하고 TTL 을 다시 건 뒤 1
+-- KEYS[1] = emailVerification:{email}
+-- ARGV[1] = code, ARGV[2] = createdAt(ms), ARGV[3] = 코드 TTL(ms)
+if redis.call('HGET', KEYS[1], 'verified') == 'true' then
+    return 0
+end
+redis.call('HSET', KEYS[1], 'code', ARGV[1], 'verified', 'false', 'createdAt', ARGV[2])
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+return 1
@@ -0,0 +1,11 @@
+-- 인증 처리: 코드 일치 + notBefore 이후 발급 + 미인증일 때만 인증 완료로 바꾸고 회원가입용 보관 시간으로 TTL 을 바꾼다.
+-- KEYS[1] = emailVerification:{email}
+-- ARGV[1] = code, ARGV[2] = notBefore(ms), ARGV[3] = 인증 완료 후 TTL(ms)
+-- 반환: 1 = 인증 처리, 0 = 조건 불일치
+local fields = redis.call('HMGET', KEYS[1], 'code', 'verified', 'createdAt')
+if fields[1] ~= ARGV[1] or fields[2] ~= 'false' or (tonumber(fields[3]) or 0) <= tonumber(ARGV[2]) then
+    return 0
+end
+redis.call('HSET', KEYS[1], 'verified', 'true')
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+return 1
@@ -0,0 +1,17 @@
+-- 전송 시각이 된 메일을 batch 만큼 꺼내고, lease 가 끝날 때까지 다른 워커가 가져가지 못하도록 점수를 미룬다.
+-- KEYS[1] = mail:outbox (ZSET, 점수 = 다음 전송 시각 ms), KEYS[2] = mail:outbox:payload (HASH, id -> JSON)
+-- ARGV[1] = 현재 시각(ms), ARGV[2] = batch, ARGV[3] = lease 만료 시각(ms)
+-- 반환: { id1, payload1, id2, payload2, ... }
+local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+local claimed = {}
+for _, id in ipairs(ids) do
+    local payload = redis.call('HGET', KEYS[2], id)
+    if payload then
+        redis.call('ZADD', KEYS[1], ARGV[3], id)
+        table.insert(claimed, id)
+        table.insert(claimed, payload)
+    else
+        redis.call('ZREM', KEYS[1], id)
+    end
+end
+return claimed
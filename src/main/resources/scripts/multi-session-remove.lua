@@ -0,0 +1,23 @@
+-- 다중 기기 모드: 로그아웃한 기기 세션만 제거
+-- KEYS[1] = sessionAccess:{id} (access 다이제스트, score = 만료 시각), KEYS[2] = sessionRefresh:{id} (refresh 다이제스트, score = 만료 시각)
+-- KEYS[3] = sessionPairs:{id} (refresh 다이제스트 -> 같은 기기의 access 다이제스트)
+-- ARGV[1] = access 다이제스트, ARGV[2] = refresh 다이제스트 (쿠키가 없으면 빈 문자열)
+
+-- 기기 세션 하나를 refresh 다이제스트 기준으로 제거 (짝인 access 다이제스트도 함께)
+local function drop(refresh)
+    local access = redis.call('HGET', KEYS[3], refresh)
+    if access then
+        redis.call('ZREM', KEYS[1], access)
+    end
+    redis.call('HDEL', KEYS[3], refresh)
+    redis.call('ZREM', KEYS[2], refresh)
+end
+
+local entries = redis.call('HGETALL', KEYS[3])
+for i = 1, #entries, 2 do
+    if entries[i] == ARGV[2] or entries[i + 1] == ARGV[1] then
+        drop(entries[i])
+    end
+end
+redis.call('ZREM', KEYS[1], ARGV[1])
+return 1
@@ -0,0 +1,15 @@
+-- 다중 기기 모드: 닉네임/프로필 변경으로 재발급된 accessToken 을 같은 기기 세션에 반영
+-- KEYS[1] = sessionAccess:{id} (access 다이제스트, score = 만료 시각), KEYS[2] = sessionRefresh:{id} (refresh 다이제스트, score = 만료 시각)
+-- KEYS[3] = sessionPairs:{id} (refresh 다이제스트 -> 같은 기기의 access 다이제스트)
+-- ARGV[1] = 이전 access 다이제스트, ARGV[2] = 새 access 다이제스트, ARGV[3] = 새 access 만료 시각(ms)
+-- 반환: 1 = 교체 성공, 0 = 이전 access 다이제스트의 세션 없음
+local entries = redis.call('HGETALL', KEYS[3])
+for i = 1, #entries, 2 do
+    if entries[i + 1] == ARGV[1] then
+        redis.call('HSET', KEYS[3], entries[i], ARGV[2])
+        redis.call('ZREM', KEYS[1], ARGV[1])
+        redis.call('ZADD', KEYS[1], ARGV[3], ARGV[2])
+        return 1
+    end
+end
+return 0
@@ -0,0 +1,35 @@
+-- 다중 기기 모드: 제시된 refreshToken 의 기기 세션만 새 토큰으로 교체
+-- KEYS[1] = sessionAccess:{id} (access 다이제스트, score = 만료 시각), KEYS[2] = sessionRefresh:{id} (refresh 다이제스트, score = 만료 시각)
+-- KEYS[3] = sessionPairs:{id} (refresh 다이제스트 -> 같은 기기의 access 다이제스트)
+-- KEYS[4] = session:{id}
+-- ARGV[1] = 쿠키 refreshToken 의 다이제스트, ARGV[2] = 새 access 다이제스트, ARGV[3] = access 만료 시각(ms)
+-- ARGV[4] = 새 refresh 다이제스트, ARGV[5] = refresh 만료 시각(ms), ARGV[6] = 현재 시각(ms)
+-- 반환: 1 = 교체 성공, 0 = 유효한 세션 없음, -1 = 다른 기기 세션만 있음 (밀려났거나 로그아웃된 토큰)
+
+-- 기기 세션 하나를 refresh 다이제스트 기준으로 제거 (짝인 access 다이제스트도 함께)
+local function drop(refresh)
+    local access = redis.call('HGET', KEYS[3], refresh)
+    if access then
+        redis.call('ZREM', KEYS[1], access)
+    end
+    redis.call('HDEL', KEYS[3], refresh)
+    redis.call('ZREM', KEYS[2], refresh)
+end
+
+local score = redis.call('ZSCORE', KEYS[2], ARGV[1])
+if not score or tonumber(score) <= tonumber(ARGV[6]) then
+    if redis.call('ZCOUNT', KEYS[2], '(' .. ARGV[6], '+inf') == 0 then
+        return 0
+    end
+    return -1
+end
+
+drop(ARGV[1])
+redis.call('ZADD', KEYS[1], ARGV[3], ARGV[2])
+redis.call('ZADD', KEYS[2], ARGV[5], ARGV[4])
+redis.call('HSET', KEYS[3], ARGV[4], ARGV[2])
+redis.call('HSET', KEYS[4], 'issuedAt', ARGV[6])
+for i = 1, 4 do
+    redis.call('PEXPIREAT', KEYS[i], ARGV[5])
+end
+return 1
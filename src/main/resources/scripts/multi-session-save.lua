@@ -0,0 +1,40 @@
+-- 다중 기기 모드: 새 기기 세션을 추가하고 만료되었거나 최대 개수를 넘은 오래된 세션을 정리
+-- KEYS[1] = sessionAccess:{id} (access 다이제스트, score = 만료 시각), KEYS[2] = sessionRefresh:{id} (refresh 다이제스트, score = 만료 시각)
+-- KEYS[3] = sessionPairs:{id} (refresh 다이제스트 -> 같은 기기의 access 다이제스트)
+-- KEYS[4] = session:{id} (계정 상태, 마지막 로그인 기기)
+-- ARGV[1] = access 다이제스트, ARGV[2] = access 만료 시각(ms), ARGV[3] = refresh 다이제스트, ARGV[4] = refresh 만료 시각(ms)
+-- ARGV[5] = 현재 시각(ms), ARGV[6] = 최대 세션 수, ARGV[7] = 기기 정보, ARGV[8] = 계정 상태 (없으면 빈 문자열)
+-- 반환: 최대 개수를 넘어 밀려난 세션 수
+
+-- 기기 세션 하나를 refresh 다이제스트 기준으로 제거 (짝인 access 다이제스트도 함께)
+local function drop(refresh)
+    local access = redis.call('HGET', KEYS[3], refresh)
+    if access then
+        redis.call('ZREM', KEYS[1], access)
+    end
+    redis.call('HDEL', KEYS[3], refresh)
+    redis.call('ZREM', KEYS[2], refresh)
+end
+
+for _, refresh in ipairs(redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[5])) do
+    drop(refresh)
+end
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[5])
+
+redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+redis.call('ZADD', KEYS[2], ARGV[4], ARGV[3])
+redis.call('HSET', KEYS[3], ARGV[3], ARGV[1])
+
+local evicted = redis.call('ZRANGE', KEYS[2], 0, -(tonumber(ARGV[6]) + 1))
+for _, refresh in ipairs(evicted) do
+    drop(refresh)
+end
+
+redis.call('HSET', KEYS[4], 'issuedAt', ARGV[5], 'device', ARGV[7])
+if ARGV[8] ~= '' then
+    redis.call('HSET', KEYS[4], 'status', ARGV[8])
+end
+for i = 1, 4 do
+    redis.call('PEXPIREAT', KEYS[i], ARGV[4])
+end
+return #evicted
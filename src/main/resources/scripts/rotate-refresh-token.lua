@@ -0,0 +1,35 @@
+-- 리프레시 토큰 비교 후 access/refresh 토큰 다이제스트를 원자적으로 교체
+-- KEYS[1] = session:{id}
+-- KEYS[2] = refreshToken:{id}, KEYS[3] = accessToken:{id}, KEYS[4] = accountStatus:{id} (이전 문자열 키 레이아웃)
+-- ARGV[1] = 쿠키 refreshToken 의 다이제스트, ARGV[2] = 새 accessToken 다이제스트, ARGV[3] = accessToken 만료 시각(epoch ms)
+-- ARGV[4] = 새 refreshToken 다이제스트, ARGV[5] = refreshToken TTL(ms)
+-- ARGV[6] = 쿠키 refreshToken 원문 (다이제스트 저장 이전에 만들어진 세션 비교용), ARGV[7] = 현재 시각(ms)
+-- 반환: 1 = 교체 성공, 0 = 저장된 refreshToken 없음, -1 = refreshToken 불일치
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    if redis.call('HGET', KEYS[1], 'refresh') ~= ARGV[1] then
+        return -1
+    end
+    redis.call('HSET', KEYS[1], 'access', ARGV[2], 'accessExpiresAt', ARGV[3],
+            'refresh', ARGV[4], 'issuedAt', ARGV[7])
+    redis.call('PEXPIRE', KEYS[1], ARGV[5])
+    return 1
+end
+
+-- 이전 레이아웃 세션이면 비교 후 해시로 옮기고 문자열 키는 삭제
+local saved = redis.call('GET', KEYS[2])
+if not saved then
+    return 0
+end
+if saved ~= ARGV[1] and saved ~= ARGV[6] then
+    return -1
+end
+
+redis.call('HSET', KEYS[1], 'access', ARGV[2], 'accessExpiresAt', ARGV[3],
+        'refresh', ARGV[4], 'issuedAt', ARGV[7], 'device', 'unknown')
+local status = redis.call('GET', KEYS[4])
+if status then
+    redis.call('HSET', KEYS[1], 'status', status)
+end
+redis.call('PEXPIRE', KEYS[1], ARGV[5])
+redis.call('DEL', KEYS[2], KEYS[3], KEYS[4])
+return 1
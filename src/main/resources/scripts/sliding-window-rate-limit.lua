@@ -0,0 +1,28 @@
+-- 슬라이딩 윈도우(요청 로그) 방식 rate limit. 모든 키가 한도 안일 때만 이번 요청을 기록한다.
+-- KEYS = 제한 키 (IP, 이메일 등)
+-- ARGV[1] = 현재 시각(ms), ARGV[2] = 윈도우(ms), ARGV[3] = 요청 ID, ARGV[4..] = KEYS 순서의 한도
+-- 반환: 0 = 허용, 양수 = 거절 (다시 시도할 수 있을 때까지 남은 ms)
+local now = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local retryAfter = 0
+
+for i, key in ipairs(KEYS) do
+    redis.call('ZREMRANGEBYSCORE', key, '-inf', now - window)
+    if redis.call('ZCARD', key) >= tonumber(ARGV[3 + i]) then
+        local oldest = redis.call('ZRANGE', key, 0, 0, 'WITHSCORES')
+        local wait = window
+        if #oldest > 0 then
+            wait = math.max(1, tonumber(oldest[2]) + window - now)
+        end
+        retryAfter = math.max(retryAfter, wait)
+    end
+end
+if retryAfter > 0 then
+    return retryAfter
+end
+
+for _, key in ipairs(KEYS) do
+    redis.call('ZADD', key, now, ARGV[3])
+    redis.call('PEXPIRE', key, window)
+end
+return 0
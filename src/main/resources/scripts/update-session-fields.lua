@@ -0,0 +1,8 @@
+-- 세션 해시가 있을 때만 필드를 갱신 (없는 키에 HSET 하면 TTL 없는 해시가 생기므로)
+-- KEYS[1] = session:{id}, ARGV = field1, value1, field2, value2, ...
+-- 반환: 1 = 갱신, 0 = 세션 해시 없음
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return 0
+end
+redis.call('HSET', KEYS[1], unpack(ARGV))
+return 1
@@ -0,0 +1,71 @@
+package com.example.authservice.config.cache;
+
+import com.example.authservice.config.jwt.JwtProperties;
+import com.example.authservice.config.jwt.VerifiedTokenCache;
+import com.example.authservice.mapper.UserMapper;
+import com.example.authservice.type.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccountStatusCacheTest {
+
+    private final UserMapper userMapper = mock(UserMapper.class);
+    private AccountStatusCache accountStatusCache;
+    private CacheInvalidator cacheInvalidator;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        AuthCacheProperties properties = new AuthCacheProperties();
+        // TTL 로 만료되어 반영되는 것이 아님을 보이기 위해 충분히 길게
+        properties.getAccountStatus().setStaleness(Duration.ofHours(1));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        accountStatusCache = new AccountStatusCache(properties, userMapper, meterRegistry);
+        cacheInvalidator = new CacheInvalidator(mock(RedisTemplate.class), properties,
+                new VerifiedTokenCache(new JwtProperties(), meterRegistry),
+                new SessionTokenNearCache(properties, meterRegistry),
+                accountStatusCache);
+    }
+
+    @Test
+    @DisplayName("상태 캐시는 staleness 동안 DB 를 다시 조회하지 않는다")
+    void servesFromCache() {
+        when(userMapper.findStatusById(1L)).thenReturn(Status.ACTIVE);
+
+        assertThat(accountStatusCache.get(1L)).isEqualTo(Status.ACTIVE);
+        assertThat(accountStatusCache.get(1L)).isEqualTo(Status.ACTIVE);
+
+        verify(userMapper, times(1)).findStatusById(1L);
+    }
+
+    @Test
+    @DisplayName("다른 파드의 status: 무효화 메시지를 받으면 다음 조회부터 바뀐 상태를 읽는다")
+    void statusMessageTakesEffectImmediately() {
+        when(userMapper.findStatusById(1L)).thenReturn(Status.ACTIVE);
+        when(userMapper.findStatusById(2L)).thenReturn(Status.ACTIVE);
+        accountStatusCache.get(1L);
+        accountStatusCache.get(2L);
+
+        when(userMapper.findStatusById(1L)).thenReturn(Status.BANNED);
+        cacheInvalidator.onMessage(new DefaultMessage(
+                "auth:cache:invalidate".getBytes(StandardCharsets.UTF_8),
+                "status:1".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(accountStatusCache.getIfPresent(1L)).isNull();
+        assertThat(accountStatusCache.get(1L)).isEqualTo(Status.BANNED);
+        assertThat(accountStatusCache.getIfPresent(2L)).isEqualTo(Status.ACTIVE);
+    }
+}
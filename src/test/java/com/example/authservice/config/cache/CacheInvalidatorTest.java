@@ -0,0 +1,86 @@
+package com.example.authservice.config.cache;
+
+import com.example.authservice.config.jwt.JwtProperties;
+import com.example.authservice.config.jwt.VerifiedTokenCache;
+import com.example.authservice.config.redis.RedisPubSubConfig;
+import com.example.authservice.mapper.UserMapper;
+import com.example.authservice.testsupport.RedisTestSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+class CacheInvalidatorTest extends RedisTestSupport {
+
+    private static final String DIGEST = "digest-1";
+
+    private RedisMessageListenerContainer listenerContainer;
+
+    @AfterEach
+    void stopListener() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 파드가 발행한 세션 무효화 메시지를 받으면 near-cache 항목을 지운다")
+    void invalidationMessageEvictsNearCache() throws Exception {
+        Pod publisher = new Pod();
+        Pod subscriber = new Pod();
+        listenerContainer = new RedisPubSubConfig().redisMessageListenerContainer(
+                connectionFactory, subscriber.invalidator, subscriber.properties);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+
+        subscriber.nearCache.put(1L, DIGEST, subscriber.nearCache.version(1L));
+        subscriber.nearCache.put(2L, DIGEST, subscriber.nearCache.version(2L));
+        assertThat(subscriber.nearCache.getIfMatches(1L, DIGEST)).isEqualTo(DIGEST);
+
+        publisher.invalidator.invalidateSession(1L);
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(subscriber.nearCache.getIfMatches(1L, DIGEST)).isNull());
+        assertThat(subscriber.nearCache.getIfMatches(2L, DIGEST)).isEqualTo(DIGEST);
+    }
+
+    @Test
+    @DisplayName("무효화 이전에 시작한 조회의 결과는 near-cache 에 다시 넣지 않는다")
+    void dropsPutThatStartedBeforeInvalidation() {
+        Pod pod = new Pod();
+        long version = pod.nearCache.version(1L);
+
+        // 조회가 Redis 응답을 기다리는 사이 로그아웃/재발급으로 무효화
+        pod.invalidator.invalidateSession(1L);
+        pod.nearCache.put(1L, DIGEST, version);
+
+        assertThat(pod.nearCache.getIfMatches(1L, DIGEST)).isNull();
+
+        pod.nearCache.put(1L, DIGEST, pod.nearCache.version(1L));
+        assertThat(pod.nearCache.getIfMatches(1L, DIGEST)).isEqualTo(DIGEST);
+    }
+
+    // 파드 하나의 로컬 캐시와 무효화 전파 구성
+    private class Pod {
+        private final AuthCacheProperties properties = new AuthCacheProperties();
+        private final SessionTokenNearCache nearCache;
+        private final CacheInvalidator invalidator;
+
+        private Pod() {
+            properties.getSessionToken().setEnabled(true);
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            nearCache = new SessionTokenNearCache(properties, meterRegistry);
+            invalidator = new CacheInvalidator(redisTemplate, properties,
+                    new VerifiedTokenCache(new JwtProperties(), meterRegistry),
+                    nearCache,
+                    new AccountStatusCache(properties, mock(UserMapper.class), meterRegistry));
+        }
+    }
+}
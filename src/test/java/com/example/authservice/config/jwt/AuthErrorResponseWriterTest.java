@@ -0,0 +1,54 @@
+package com.example.authservice.config.jwt;
+
+import com.example.authservice.type.AuthErrorType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthErrorResponseWriterTest {
+
+    // 필터가 new ObjectMapper() 로 직렬화하던 때와 같은 본문 (필드 순서, 공백 포함)
+    private static final Map<AuthErrorType, String> EXPECTED = Map.of(
+            AuthErrorType.TOKEN_EXPIRED,
+            "{\"success\":false,\"code\":40102,\"message\":\"토큰이 만료되었습니다.\"}",
+            AuthErrorType.INVALID_TOKEN,
+            "{\"success\":false,\"code\":40103,\"message\":\"비정상적인 접근입니다.\"}",
+            AuthErrorType.DUPLICATE_LOGIN,
+            "{\"success\":false,\"code\":40104,\"message\":\"다른 기기에서 로그인되었습니다.\"}",
+            AuthErrorType.INACTIVE_ACCOUNT,
+            "{\"success\":false,\"code\":40301,\"message\":\"비활성화된 계정입니다. 관리자에게 문의하세요.\"}"
+    );
+
+    // 기본 ObjectMapper 와 Spring Boot 가 빈으로 만드는 ObjectMapper 모두 같은 바이트를 내야 한다
+    static Stream<Arguments> errorTypes() {
+        return Stream.of(new ObjectMapper(), Jackson2ObjectMapperBuilder.json().build())
+                .flatMap(objectMapper -> Stream.of(AuthErrorType.values())
+                        .map(type -> Arguments.of(objectMapper, type)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("errorTypes")
+    @DisplayName("인증 실패 응답은 유형별로 고정된 JSON 바이트를 401 로 쓴다")
+    void writesExactBody(ObjectMapper objectMapper, AuthErrorType type) throws Exception {
+        AuthErrorResponseWriter writer = new AuthErrorResponseWriter(objectMapper);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        writer.write(response, type);
+
+        byte[] expected = EXPECTED.get(type).getBytes(StandardCharsets.UTF_8);
+        assertThat(response.getContentAsByteArray()).isEqualTo(expected);
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentType()).isEqualTo("application/json;charset=UTF-8");
+        assertThat(response.getContentLength()).isEqualTo(expected.length);
+    }
+}
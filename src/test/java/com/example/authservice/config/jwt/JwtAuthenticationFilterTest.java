@@ -0,0 +1,104 @@
+package com.example.authservice.config.jwt;
+
+import com.example.authservice.config.cache.AccountStatusCache;
+import com.example.authservice.config.cache.AuthCacheProperties;
+import com.example.authservice.config.cache.CacheInvalidator;
+import com.example.authservice.config.cache.SessionTokenNearCache;
+import com.example.authservice.config.session.SessionProperties;
+import com.example.authservice.dto.ClaimsRequestDTO;
+import com.example.authservice.mapper.UserMapper;
+import com.example.authservice.service.MultiDeviceSessionService;
+import com.example.authservice.service.SessionService;
+import com.example.authservice.service.TokenProviderService;
+import com.example.authservice.testsupport.RedisTestSupport;
+import com.example.authservice.type.Status;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class JwtAuthenticationFilterTest extends RedisTestSupport {
+
+    private static final Long USER_ID = 1L;
+
+    private final UserMapper userMapper = mock(UserMapper.class);
+    private JwtAuthenticationFilter filter;
+    private SessionService sessionService;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("test@test.com");
+        jwtProperties.setSecretKey(Base64.getEncoder().encodeToString(new byte[64]));
+        JwtKeyHolder jwtKeyHolder = new JwtKeyHolder(jwtProperties);
+        jwtKeyHolder.init();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(jwtProperties, meterRegistry);
+        TokenProviderService tokenProviderService = new TokenProviderService(jwtProperties, jwtKeyHolder, verifiedTokenCache);
+
+        // near-cache 와 상태 캐시가 모두 맞으면 Redis 를 보지 않는 경로까지 포함해 검증한다
+        AuthCacheProperties cacheProperties = new AuthCacheProperties();
+        cacheProperties.getSessionToken().setEnabled(true);
+        cacheProperties.getSessionToken().setTtl(Duration.ofHours(1));
+        cacheProperties.getAccountStatus().setStaleness(Duration.ofHours(1));
+        SessionTokenNearCache nearCache = new SessionTokenNearCache(cacheProperties, meterRegistry);
+        AccountStatusCache accountStatusCache = new AccountStatusCache(cacheProperties, userMapper, meterRegistry);
+        CacheInvalidator cacheInvalidator = new CacheInvalidator(redisTemplate, cacheProperties,
+                verifiedTokenCache, nearCache, accountStatusCache);
+        SessionProperties sessionProperties = new SessionProperties();
+        sessionService = new SessionService(redisTemplate, nearCache, accountStatusCache, cacheInvalidator,
+                sessionProperties, new MultiDeviceSessionService(redisTemplate, sessionProperties, meterRegistry));
+
+        filter = new JwtAuthenticationFilter(tokenProviderService, sessionService, new PublicRouteMatcher(jwtProperties),
+                meterRegistry, new AuthErrorResponseWriter(new ObjectMapper()));
+        filter.init();
+
+        ClaimsRequestDTO claims = ClaimsRequestDTO.builder().userId(USER_ID).nickname("tester").build();
+        accessToken = tokenProviderService.generateToken(claims, Duration.ofHours(2));
+        String refreshToken = tokenProviderService.generateToken(claims, Duration.ofDays(7));
+        sessionService.saveSession(USER_ID, accessToken, refreshToken, Status.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("계정이 정지되면 상태 캐시 TTL 을 기다리지 않고 다음 요청부터 40301 로 막는다")
+    void enforcesBanWithoutWaitingForTtl() throws Exception {
+        assertThat(passes(accessToken)).isTrue();
+        // 두 번째 요청은 near-cache 와 상태 캐시에서 처리된다
+        assertThat(passes(accessToken)).isTrue();
+
+        sessionService.saveStatus(USER_ID, Status.BANNED);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(passes(accessToken, response)).isFalse();
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentAsString()).contains("40301");
+        // 상태는 세션 해시에서 읽으므로 DB 로 대체하지 않는다
+        verify(userMapper, never()).findStatusById(USER_ID);
+    }
+
+    private boolean passes(String token) throws Exception {
+        return passes(token, new MockHttpServletResponse());
+    }
+
+    // 필터가 다음 체인으로 요청을 넘겼는지 여부
+    private boolean passes(String token, MockHttpServletResponse response) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/auths/users/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        return chain.getRequest() != null;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.authservice.config.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtKeyHolderTest {
+
+    private JwtProperties jwtProperties;
+    private JwtKeyHolder jwtKeyHolder;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setSecretKey(secret((byte) 1));
+        jwtKeyHolder = new JwtKeyHolder(jwtProperties);
+        jwtKeyHolder.init();
+    }
+
+    @Test
+    @DisplayName("secret 이 그대로면 같은 키와 파서를 재사용한다")
+    void reusesKeyAndParser() {
+        assertThat(jwtKeyHolder.getSecretKey()).isSameAs(jwtKeyHolder.getSecretKey());
+        assertThat(jwtKeyHolder.getParser()).isSameAs(jwtKeyHolder.getParser());
+    }
+
+    @Test
+    @DisplayName("secret 이 바뀌면 키와 파서를 다시 만든다")
+    void rebuildsWhenSecretChanges() {
+        var oldKey = jwtKeyHolder.getSecretKey();
+        var oldParser = jwtKeyHolder.getParser();
+
+        jwtProperties.setSecretKey(secret((byte) 2));
+
+        assertThat(jwtKeyHolder.getSecretKey()).isNotSameAs(oldKey);
+        assertThat(jwtKeyHolder.getSecretKey().getEncoded()).isNotEqualTo(oldKey.getEncoded());
+        assertThat(jwtKeyHolder.getParser()).isNotSameAs(oldParser);
+    }
+
+    private static String secret(byte fill) {
+        byte[] bytes = new byte[64];
+        Arrays.fill(bytes, fill);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.authservice.config.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicRouteMatcherTest {
+
+    private final PublicRouteMatcher matcher = new PublicRouteMatcher(new JwtProperties());
+
+    @Test
+    @DisplayName("기본 공개 경로와 숫자 경로 변수를 매칭한다")
+    void matchesDefaultPublicRoutes() {
+        assertThat(matcher.matches("/api/teachers/12/profile")).isTrue();
+        assertThat(matcher.matches("/auths/users/3/email")).isTrue();
+        assertThat(matcher.matches("/auths/users/by-type")).isTrue();
+    }
+
+    @Test
+    @DisplayName("숫자가 아닌 변수, 추가 세그먼트, 접두사만 일치하는 경로는 매칭하지 않는다")
+    void rejectsNonMatchingRoutes() {
+        assertThat(matcher.matches("/api/teachers/abc/profile")).isFalse();
+        assertThat(matcher.matches("/api/teachers//profile")).isFalse();
+        assertThat(matcher.matches("/api/teachers/12/profile/")).isFalse();
+        assertThat(matcher.matches("/api/teachers/12")).isFalse();
+        assertThat(matcher.matches("/auths/users/by-type/extra")).isFalse();
+        assertThat(matcher.matches("/auths/login")).isFalse();
+        assertThat(matcher.matches("")).isFalse();
+    }
+}
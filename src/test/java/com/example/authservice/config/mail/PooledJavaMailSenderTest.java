@@ -0,0 +1,72 @@
+package com.example.authservice.config.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PooledJavaMailSenderTest {
+
+    @RegisterExtension
+    static GreenMailExtension smtp = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PooledJavaMailSender sender;
+
+    @AfterEach
+    void tearDown() {
+        sender.destroy();
+    }
+
+    @Test
+    @DisplayName("여러 번 보내도 풀의 SMTP 세션 하나를 재사용한다")
+    void reusesSession() throws Exception {
+        sender = create(new MailTransportPoolProperties());
+
+        sender.send(message("a@test.com"), message("b@test.com"));
+        sender.send(message("c@test.com"));
+
+        assertThat(smtp.getReceivedMessages()).hasSize(3);
+        assertThat(meterRegistry.get("auth.mail.pool.opened").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.mail.pool.idle").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("세션당 메일 수 제한에 도달하면 닫고 새로 연결한다")
+    void recyclesAfterMaxMessages() throws Exception {
+        MailTransportPoolProperties properties = new MailTransportPoolProperties();
+        properties.setMaxMessagesPerConnection(2);
+        sender = create(properties);
+
+        sender.send(message("a@test.com"), message("b@test.com"));
+        sender.send(message("c@test.com"));
+
+        assertThat(smtp.getReceivedMessages()).hasSize(3);
+        assertThat(meterRegistry.get("auth.mail.pool.opened").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("auth.mail.pool.recycled").counter().count()).isEqualTo(1);
+    }
+
+    private PooledJavaMailSender create(MailTransportPoolProperties properties) {
+        PooledJavaMailSender pooled = new PooledJavaMailSender(properties, meterRegistry);
+        pooled.setHost("localhost");
+        pooled.setPort(smtp.getSmtp().getPort());
+        return pooled;
+    }
+
+    private MimeMessage message(String to) throws MessagingException {
+        MimeMessage message = sender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true);
+        helper.setTo(to);
+        helper.setSubject("이메일 인증 코드");
+        helper.setText("123456");
+        return message;
+    }
+}
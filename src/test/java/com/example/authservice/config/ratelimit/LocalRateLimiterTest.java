@@ -0,0 +1,38 @@
+package com.example.authservice.config.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalRateLimiterTest {
+
+    private final LocalRateLimiter limiter = new LocalRateLimiter();
+
+    @Test
+    @DisplayName("한도를 넘으면 가장 오래된 요청이 윈도우를 벗어날 때까지 거절한다")
+    void rejectsUntilOldestLeavesWindow() {
+        List<String> keys = List.of("ip", "email");
+        List<Integer> limits = List.of(10, 2);
+
+        assertThat(limiter.tryAcquire(keys, limits, 1_000, 0)).isZero();
+        assertThat(limiter.tryAcquire(keys, limits, 1_000, 400)).isZero();
+        assertThat(limiter.tryAcquire(keys, limits, 1_000, 500)).isEqualTo(500);
+        assertThat(limiter.tryAcquire(keys, limits, 1_000, 1_000)).isZero();
+    }
+
+    @Test
+    @DisplayName("거절된 요청은 어느 키에도 기록하지 않는다")
+    void rejectedRequestIsNotRecorded() {
+        assertThat(limiter.tryAcquire(List.of("ip", "email"), List.of(5, 1), 1_000, 0)).isZero();
+        assertThat(limiter.tryAcquire(List.of("ip", "email"), List.of(5, 1), 1_000, 10)).isPositive();
+
+        // ip 키에는 첫 요청 하나만 남아 있어야 한다
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire(List.of("ip"), List.of(5), 1_000, 20 + i)).isZero();
+        }
+        assertThat(limiter.tryAcquire(List.of("ip"), List.of(5), 1_000, 30)).isPositive();
+    }
+}
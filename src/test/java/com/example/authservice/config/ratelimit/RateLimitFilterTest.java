@@ -0,0 +1,146 @@
+package com.example.authservice.config.ratelimit;
+
+import com.example.authservice.testsupport.RedisTestSupport;
+import com.example.authservice.util.TokenDigestUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest extends RedisTestSupport {
+
+    private static final String PATH = "/auths/login";
+    private static final String BODY = "{\"email\":\" User@Example.com \",\"password\":\"password1!\"}";
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(RateLimitProperties.Rule.of(PATH, 10, 2, Duration.ofMinutes(1))));
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(properties, new RateLimiter(redisTemplate, meterRegistry),
+                new ObjectMapper(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("이메일 한도를 넘으면 429 와 Retry-After 를 돌려주고 컨트롤러로 넘기지 않는다")
+    void rejectsWithRetryAfter() throws Exception {
+        assertThat(send(BODY).chain.getRequest()).isNotNull();
+        assertThat(send(BODY).chain.getRequest()).isNotNull();
+
+        Exchange rejected = send(BODY);
+
+        assertThat(rejected.chain.getRequest()).isNull();
+        assertThat(rejected.response.getStatus()).isEqualTo(429);
+        assertThat(Long.parseLong(rejected.response.getHeader(HttpHeaders.RETRY_AFTER))).isBetween(1L, 60L);
+        assertThat(rejected.response.getContentAsString()).contains("TOO_MANY_REQUESTS");
+        assertThat(meterRegistry.get("auth.rate.limit.rejected").tag("route", PATH).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이메일은 정규화한 다이제스트로만 키에 남고, 거절된 요청은 기록되지 않는다")
+    void keysByEmailDigestAndSkipsRejected() throws Exception {
+        send(BODY);
+        send(BODY);
+        send(BODY);
+
+        String emailKey = "rate:" + PATH + ":email:" + TokenDigestUtil.digest("user@example.com");
+        assertThat(redisTemplate.opsForZSet().zCard(emailKey)).isEqualTo(2);
+        assertThat(redisTemplate.opsForZSet().zCard("rate:" + PATH + ":ip:127.0.0.1")).isEqualTo(2);
+        assertThat(redisTemplate.keys("*User@Example.com*")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("필터가 읽은 본문을 컨트롤러가 스트림과 ReadListener 로 다시 읽을 수 있다")
+    void replaysBodyToController() throws Exception {
+        Exchange exchange = send(BODY);
+
+        ServletInputStream input = exchange.chain.getRequest().getInputStream();
+        assertThat(new String(input.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+
+        ServletInputStream asyncInput = exchange.chain.getRequest().getInputStream();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        boolean[] completed = new boolean[1];
+        asyncInput.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                while (asyncInput.isReady() && !asyncInput.isFinished()) {
+                    read.write(asyncInput.read());
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                completed[0] = true;
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+        });
+        assertThat(completed[0]).isTrue();
+        assertThat(read.toString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("Content-Length 가 없어도 상한을 넘는 본문은 413 으로 거절하고 기록하지 않는다")
+    void rejectsOversizedBodyWithoutContentLength() throws Exception {
+        byte[] body = ("{\"email\":\"user@example.com\",\"pad\":\""
+                + "a".repeat(RateLimitFilter.MAX_BODY_BYTES) + "\"}").getBytes(StandardCharsets.UTF_8);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", PATH) {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        request.setContent(body);
+
+        Exchange exchange = send(request);
+
+        assertThat(exchange.response.getStatus()).isEqualTo(413);
+        assertThat(exchange.chain.getRequest()).isNull();
+        assertThat(redisTemplate.keys("rate:*")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("본문이 없으면 IP 한도만 적용하고 넘긴다")
+    void appliesIpLimitWithoutBody() throws Exception {
+        Exchange exchange = send(new MockHttpServletRequest("POST", PATH));
+
+        assertThat(exchange.chain.getRequest()).isNotNull();
+        assertThat(redisTemplate.keys("rate:*")).containsExactly("rate:" + PATH + ":ip:127.0.0.1");
+    }
+
+    private Exchange send(String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", PATH);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return send(request);
+    }
+
+    private Exchange send(MockHttpServletRequest request) throws Exception {
+        Exchange exchange = new Exchange(new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(request, exchange.response, exchange.chain);
+        return exchange;
+    }
+
+    private record Exchange(MockHttpServletResponse response, MockFilterChain chain) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.authservice.config.ratelimit;
+
+import com.example.authservice.testsupport.RedisTestSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// sliding-window-rate-limit.lua 를 실제 Redis 에서 실행해 확인
+class RateLimiterTest extends RedisTestSupport {
+
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new RateLimiter(redisTemplate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("한도까지 허용하고, 넘으면 가장 오래된 요청이 윈도우를 벗어날 때까지 남은 시간을 돌려준다")
+    void rejectsOverLimitWithRetryAfter() {
+        List<String> keys = List.of("rate:test:ip:1.1.1.1");
+
+        assertThat(rateLimiter.tryAcquire(keys, List.of(2), WINDOW)).isZero();
+        assertThat(rateLimiter.tryAcquire(keys, List.of(2), WINDOW)).isZero();
+
+        long retryAfter = rateLimiter.tryAcquire(keys, List.of(2), WINDOW);
+        assertThat(retryAfter).isPositive().isLessThanOrEqualTo(WINDOW.toMillis());
+        assertThat(redisTemplate.getExpire("rate:test:ip:1.1.1.1")).isPositive();
+        assertThat(meterRegistry.get("auth.rate.limit.fallback").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 키라도 한도를 넘으면 어느 키에도 기록하지 않는다")
+    void rejectedRequestIsNotRecorded() {
+        List<String> keys = List.of("rate:test:ip:1.1.1.1", "rate:test:email:digest");
+        List<Integer> limits = List.of(5, 1);
+
+        assertThat(rateLimiter.tryAcquire(keys, limits, WINDOW)).isZero();
+        assertThat(rateLimiter.tryAcquire(keys, limits, WINDOW)).isPositive();
+        assertThat(rateLimiter.tryAcquire(keys, limits, WINDOW)).isPositive();
+
+        assertThat(redisTemplate.opsForZSet().zCard("rate:test:ip:1.1.1.1")).isEqualTo(1);
+        assertThat(redisTemplate.opsForZSet().zCard("rate:test:email:digest")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("윈도우를 벗어난 요청은 세지 않는다")
+    void expiredEntriesAreNotCounted() {
+        String key = "rate:test:ip:1.1.1.1";
+        redisTemplate.opsForZSet().add(key, "old", System.currentTimeMillis() - WINDOW.toMillis() - 1);
+
+        assertThat(rateLimiter.tryAcquire(List.of(key), List.of(1), WINDOW)).isZero();
+        assertThat(redisTemplate.opsForZSet().zCard(key)).isEqualTo(1);
+    }
+}
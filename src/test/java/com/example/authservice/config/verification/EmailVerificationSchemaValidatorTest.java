@@ -0,0 +1,53 @@
+package com.example.authservice.config.verification;
+
+import com.example.authservice.mapper.EmailVerificationMapper;
+import com.example.authservice.testsupport.MyBatisTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmailVerificationSchemaValidatorTest {
+
+    private MyBatisTestSupport db;
+    private EmailVerificationSchemaValidator validator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        db = MyBatisTestSupport.create("EmailVerificationMapper.xml");
+        validator = new EmailVerificationSchemaValidator(db.mapper(EmailVerificationMapper.class));
+    }
+
+    @Test
+    @DisplayName("email UNIQUE 제약이 있으면 통과한다")
+    void passesWithUniqueEmail() {
+        assertThatCode(validator::validate).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("email UNIQUE 제약이 없으면 기동을 실패시킨다")
+    void failsWithoutUniqueEmail() {
+        recreateTable("email VARCHAR(255) NOT NULL");
+
+        assertThatThrownBy(validator::validate)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("UNIQUE");
+    }
+
+    @Test
+    @DisplayName("email 이 다른 컬럼과 묶인 복합 UNIQUE 제약은 인정하지 않는다")
+    void rejectsCompositeUnique() {
+        recreateTable("email VARCHAR(255) NOT NULL, UNIQUE (email, code)");
+
+        assertThatThrownBy(validator::validate).isInstanceOf(IllegalStateException.class);
+    }
+
+    private void recreateTable(String emailDefinition) {
+        db.jdbcTemplate().execute("DROP TABLE email_verification");
+        db.jdbcTemplate().execute("CREATE TABLE email_verification (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "code VARCHAR(10) NOT NULL, is_verified BOOLEAN NOT NULL DEFAULT FALSE, "
+                + "created_at TIMESTAMP NOT NULL, " + emailDefinition + ")");
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.authservice.mapper;
+
+import com.example.authservice.testsupport.MyBatisTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailVerificationMapperTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+    // 코드 유효 시간 5분, 인증 보관 시간 1시간 기준의 경계
+    private static final Timestamp UNVERIFIED_BEFORE = Timestamp.valueOf(NOW.minusMinutes(5));
+    private static final Timestamp VERIFIED_BEFORE = Timestamp.valueOf(NOW.minusMinutes(65));
+
+    private MyBatisTestSupport db;
+    private EmailVerificationMapper mapper;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        db = MyBatisTestSupport.create("EmailVerificationMapper.xml");
+        mapper = db.mapper(EmailVerificationMapper.class);
+    }
+
+    @Test
+    @DisplayName("코드가 만료된 미인증 행과 보관 시간이 지난 인증 행만 지운다")
+    void deletesOnlyExpiredRows() {
+        insert("unverified-expired@test.com", false, NOW.minusMinutes(6));
+        insert("unverified-valid@test.com", false, NOW.minusMinutes(4));
+        insert("verified-expired@test.com", true, NOW.minusMinutes(66));
+        insert("verified-kept@test.com", true, NOW.minusMinutes(30));
+        insert("verified-recent@test.com", true, NOW.minusMinutes(1));
+
+        assertThat(mapper.deleteExpired(UNVERIFIED_BEFORE, VERIFIED_BEFORE, 100)).isEqualTo(2);
+
+        assertThat(remainingEmails()).containsExactly(
+                "unverified-valid@test.com", "verified-kept@test.com", "verified-recent@test.com");
+    }
+
+    @Test
+    @DisplayName("limit 만큼 created_at 이 오래된 행부터 지운다")
+    void deletesOldestFirstUpToLimit() {
+        insert("c@test.com", false, NOW.minusMinutes(10));
+        insert("a@test.com", false, NOW.minusMinutes(30));
+        insert("b@test.com", false, NOW.minusMinutes(20));
+
+        assertThat(mapper.deleteExpired(UNVERIFIED_BEFORE, VERIFIED_BEFORE, 2)).isEqualTo(2);
+        assertThat(remainingEmails()).containsExactly("c@test.com");
+
+        assertThat(mapper.deleteExpired(UNVERIFIED_BEFORE, VERIFIED_BEFORE, 2)).isEqualTo(1);
+        assertThat(remainingEmails()).isEmpty();
+    }
+
+    private void insert(String email, boolean verified, LocalDateTime createdAt) {
+        db.jdbcTemplate().update(
+                "INSERT INTO email_verification (email, code, is_verified, created_at) VALUES (?, '123456', ?, ?)",
+                email, verified, Timestamp.valueOf(createdAt));
+    }
+
+    private List<String> remainingEmails() {
+        return db.jdbcTemplate().queryForList("SELECT email FROM email_verification ORDER BY email", String.class);
+    }
+}
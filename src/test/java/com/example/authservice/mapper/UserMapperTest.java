@@ -0,0 +1,73 @@
+package com.example.authservice.mapper;
+
+import com.example.authservice.model.User;
+import com.example.authservice.model.UserClaims;
+import com.example.authservice.model.UserCredential;
+import com.example.authservice.testsupport.MyBatisTestSupport;
+import com.example.authservice.type.Provider;
+import com.example.authservice.type.Role;
+import com.example.authservice.type.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserMapperTest {
+
+    private static final String HASH_V1 = "$2a$10$hash-v1";
+    private static final String HASH_V2 = "$2a$12$hash-v2";
+
+    private MyBatisTestSupport db;
+    private UserMapper userMapper;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        db = MyBatisTestSupport.create("UserMapper.xml");
+        userMapper = db.mapper(UserMapper.class);
+
+        User user = User.builder()
+                .email("user@test.com")
+                .password(HASH_V1)
+                .nickname("tester")
+                .profileImage("https://cdn.test/profile.png")
+                .role(Role.STUDENT)
+                .provider(Provider.LOCAL)
+                .status(Status.BANNED)
+                .build();
+        userMapper.insertUser(user);
+        userId = user.getId();
+    }
+
+    @Test
+    @DisplayName("로그인용 조회는 생성자 인자 순서대로 id, password, nickname, profileImage, status 를 채운다")
+    void findsCredentialByEmail() {
+        assertThat(userMapper.findCredentialByEmail("user@test.com"))
+                .isEqualTo(new UserCredential(userId, HASH_V1, "tester", "https://cdn.test/profile.png", Status.BANNED));
+        assertThat(userMapper.findCredentialByEmail("nobody@test.com")).isNull();
+    }
+
+    @Test
+    @DisplayName("토큰 재발급용 조회는 id, nickname, profileImage 를 채운다")
+    void findsClaimsById() {
+        assertThat(userMapper.findClaimsById(userId))
+                .isEqualTo(new UserClaims(userId, "tester", "https://cdn.test/profile.png"));
+        assertThat(userMapper.findClaimsById(userId + 1)).isNull();
+    }
+
+    @Test
+    @DisplayName("재해싱은 저장된 해시가 읽었을 때와 같을 때만 바꾸고, 그 사이 바뀌었으면 0 을 돌려준다")
+    void updatesPasswordOnlyIfUnchanged() {
+        assertThat(userMapper.updatePasswordIfUnchanged(userId, HASH_V1, HASH_V2)).isEqualTo(1);
+        assertThat(storedPassword()).isEqualTo(HASH_V2);
+
+        // 이전 해시를 기준으로 한 재해싱은 덮어쓰지 않는다
+        assertThat(userMapper.updatePasswordIfUnchanged(userId, HASH_V1, "$2a$10$hash-v3")).isZero();
+        assertThat(storedPassword()).isEqualTo(HASH_V2);
+    }
+
+    private String storedPassword() {
+        return db.jdbcTemplate().queryForObject("SELECT password FROM users WHERE id = ?", String.class, userId);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.authservice.service;
+
+import com.example.authservice.config.verification.EmailVerificationProperties;
+import com.example.authservice.mapper.EmailVerificationMapper;
+import com.example.authservice.testsupport.MyBatisTestSupport;
+import com.example.authservice.testsupport.RedisTestSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailVerificationPurgeServiceTest extends RedisTestSupport {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MyBatisTestSupport db;
+    private EmailVerificationProperties properties;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        db = MyBatisTestSupport.create("EmailVerificationMapper.xml");
+        properties = new EmailVerificationProperties();
+        properties.getPurge().setBatchSize(2);
+        properties.getPurge().setPause(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("batchSize 보다 적게 지워질 때까지 배치를 반복하고 지운 행 수를 기록한다")
+    void deletesInBatchesUntilDrained() {
+        LocalDateTime expired = LocalDateTime.now().minusDays(1);
+        for (int i = 0; i < 5; i++) {
+            insert("expired-" + i + "@test.com", expired.plusSeconds(i));
+        }
+        insert("valid@test.com", LocalDateTime.now());
+
+        assertThat(create().purge()).isEqualTo(5);
+
+        assertThat(db.jdbcTemplate().queryForList("SELECT email FROM email_verification", String.class))
+                .containsExactly("valid@test.com");
+        assertThat(meterRegistry.get("auth.email.verification.purged").counter().count()).isEqualTo(5);
+        assertThat(meterRegistry.get("auth.email.verification.purge.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잠금은 한 인스턴스만 잡고 주기 동안 유지된다")
+    void onlyOneInstanceLeads() {
+        EmailVerificationPurgeService first = create();
+        EmailVerificationPurgeService second = create();
+
+        assertThat(first.acquireLeadership()).isTrue();
+        assertThat(second.acquireLeadership()).isFalse();
+        assertThat(first.acquireLeadership()).isFalse();
+        assertThat(redisTemplate.getExpire(EmailVerificationPurgeService.LOCK_KEY)).isPositive();
+    }
+
+    private void insert(String email, LocalDateTime createdAt) {
+        db.jdbcTemplate().update(
+                "INSERT INTO email_verification (email, code, is_verified, created_at) VALUES (?, '123456', FALSE, ?)",
+                email, Timestamp.valueOf(createdAt));
+    }
+
+    private EmailVerificationPurgeService create() {
+        return new EmailVerificationPurgeService(db.mapper(EmailVerificationMapper.class), redisTemplate,
+                properties, meterRegistry);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.authservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginCoalescingServiceTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger executions = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LoginCoalescingService loginCoalescingService = new LoginCoalescingService(meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("진행 중인 같은 로그인 요청은 한 번만 실행하고 결과를 공유한다")
+    void sharesInFlightResult() throws Exception {
+        CompletableFuture<Object> first = CompletableFuture.supplyAsync(
+                () -> loginCoalescingService.execute("login", "a@test.com", "pw", this::blockingLogin));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        FutureTask<Object> second = new FutureTask<>(
+                () -> loginCoalescingService.execute("login", "a@test.com", "pw", this::blockingLogin));
+        Thread waiter = new Thread(second);
+        waiter.start();
+        waitUntilParked(waiter);
+
+        release.countDown();
+
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.login.coalesced").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("auth.login.coalesced.timeout").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("비밀번호가 다르거나 앞선 요청이 끝났으면 따로 실행한다")
+    void runsSeparatelyOtherwise() throws Exception {
+        CompletableFuture<Object> first = CompletableFuture.supplyAsync(
+                () -> loginCoalescingService.execute("login", "a@test.com", "pw", this::blockingLogin));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Object other = loginCoalescingService.execute("login", "a@test.com", "other", executions::incrementAndGet);
+        release.countDown();
+        Object firstResult = first.get(5, TimeUnit.SECONDS);
+        Object after = loginCoalescingService.execute("login", "a@test.com", "pw", executions::incrementAndGet);
+
+        assertThat(firstResult).isEqualTo("result-1");
+        assertThat(other).isEqualTo(2);
+        assertThat(after).isEqualTo(3);
+        assertThat(meterRegistry.find("auth.login.coalesced").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("앞선 요청이 제한 시간 안에 끝나지 않으면 기다리던 요청은 직접 실행한다")
+    void runsLoaderWhenWaitTimesOut() throws Exception {
+        LoginCoalescingService shortWait = new LoginCoalescingService(meterRegistry, Duration.ofMillis(100));
+        CompletableFuture<Object> first = CompletableFuture.supplyAsync(
+                () -> shortWait.execute("login", "a@test.com", "pw", this::blockingLogin));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Object second = shortWait.execute("login", "a@test.com", "pw", executions::incrementAndGet);
+        release.countDown();
+
+        assertThat(second).isEqualTo(2);
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("result-1");
+        // 결과를 공유하지 못했으므로 coalesced 로 세지 않는다
+        assertThat(meterRegistry.find("auth.login.coalesced").counter()).isNull();
+        assertThat(meterRegistry.get("auth.login.coalesced.timeout").counter().count()).isEqualTo(1);
+    }
+
+    private Object blockingLogin() {
+        int execution = executions.incrementAndGet();
+        started.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "result-" + execution;
+    }
+
+    // 앞선 요청의 결과를 제한 시간 있는 대기로 기다리기 시작할 때까지
+    private void waitUntilParked(Thread thread) throws InterruptedException {
+        for (int i = 0; i < 500 && thread.getState() != Thread.State.TIMED_WAITING; i++) {
+            Thread.sleep(10);
+        }
+    }
+}
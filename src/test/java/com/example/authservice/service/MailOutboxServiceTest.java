@@ -0,0 +1,75 @@
+package com.example.authservice.service;
+
+import com.example.authservice.config.mail.MailOutboxProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import com.example.authservice.testsupport.RedisTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MailOutboxServiceTest extends RedisTestSupport {
+
+    // 로컬 SMTP 싱크: 실제로 메일을 내보내지 않고 받은 메시지를 보관한다
+    @RegisterExtension
+    static GreenMailExtension smtp = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("outbox 에 넣은 메일을 한 번에 꺼내 SMTP 로 보내고 outbox 에서 지운다")
+    void drainsOutboxToSmtp() throws Exception {
+        MailOutboxService outbox = create(smtp.getSmtp().getPort());
+
+        assertThat(outbox.enqueue("a@test.com", "이메일 인증 코드", "123456")).isTrue();
+        assertThat(outbox.enqueue("b@test.com", "이메일 인증 코드", "654321")).isTrue();
+        outbox.drain();
+
+        MimeMessage[] received = smtp.getReceivedMessages();
+        assertThat(received).hasSize(2);
+        assertThat(received[0].getSubject()).isEqualTo("이메일 인증 코드");
+        assertThat(redisTemplate.opsForZSet().zCard(MailOutboxService.OUTBOX_KEY)).isZero();
+        assertThat(meterRegistry.get("auth.mail.sent").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("auth.mail.outbox.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("SMTP 전송에 실패하면 백오프 후로 다시 예약하고, 시도 횟수를 넘기면 dead 로 옮긴다")
+    void retriesThenGivesUp() {
+        // 아무도 듣고 있지 않은 포트
+        MailOutboxService outbox = create(smtp.getSmtp().getPort() + 1000);
+
+        outbox.enqueue("a@test.com", "이메일 인증 코드", "123456");
+        outbox.drain();
+
+        assertThat(redisTemplate.opsForZSet().zCard(MailOutboxService.OUTBOX_KEY)).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.mail.retried").counter().count()).isEqualTo(1);
+
+        // 백오프가 0 이므로 바로 다시 꺼내진다 (maxAttempts = 2)
+        outbox.drain();
+
+        assertThat(redisTemplate.opsForZSet().zCard(MailOutboxService.OUTBOX_KEY)).isZero();
+        assertThat(redisTemplate.opsForList().size(MailOutboxService.DEAD_KEY)).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.mail.dead").counter().count()).isEqualTo(1);
+    }
+
+    private MailOutboxService create(int smtpPort) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtpPort);
+
+        MailOutboxProperties properties = new MailOutboxProperties();
+        properties.setInitialBackoff(Duration.ZERO);
+        properties.setMaxAttempts(2);
+        // start() 를 호출하지 않으므로 워커 스레드 없이 drain() 을 직접 호출해 검증한다
+        return new MailOutboxService(redisTemplate, mailSender, properties, new ObjectMapper(), meterRegistry);
+    }
+}
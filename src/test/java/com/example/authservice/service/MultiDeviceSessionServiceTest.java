@@ -0,0 +1,137 @@
+package com.example.authservice.service;
+
+import com.example.authservice.config.session.SessionProperties;
+import com.example.authservice.testsupport.RedisTestSupport;
+import com.example.authservice.type.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MultiDeviceSessionServiceTest extends RedisTestSupport {
+
+    private static final Long USER_ID = 1L;
+    private static final long ACCESS_TTL_MILLIS = TimeUnit.HOURS.toMillis(2);
+    private static final long REFRESH_TTL_MILLIS = TimeUnit.DAYS.toMillis(7);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MultiDeviceSessionService service;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        SessionProperties sessionProperties = new SessionProperties();
+        sessionProperties.getMultiDevice().setEnabled(true);
+        sessionProperties.getMultiDevice().setMaxSessions(2);
+        service = new MultiDeviceSessionService(redisTemplate, sessionProperties, meterRegistry);
+        now = System.currentTimeMillis();
+    }
+
+    @Test
+    @DisplayName("최대 기기 수를 넘겨 로그인하면 가장 먼저 만료되는 세션이 밀려난다")
+    void evictsOldestSessionPastMaxSessions() {
+        save("phone", 0);
+        save("laptop", 1);
+        assertThat(current("phone")).isTrue();
+
+        save("tablet", 2);
+
+        assertThat(current("phone")).isFalse();
+        assertThat(current("laptop")).isTrue();
+        assertThat(current("tablet")).isTrue();
+        assertThat(redisTemplate.opsForZSet().zCard("sessionRefresh:" + USER_ID)).isEqualTo(2);
+        assertThat(redisTemplate.opsForHash().hasKey("sessionPairs:" + USER_ID, "refresh-phone")).isFalse();
+        assertThat(meterRegistry.get("auth.session.evicted").counter().count()).isEqualTo(1);
+        // 밀려난 기기의 refreshToken 은 다른 기기 세션이 남아 있으므로 -1
+        assertThat(rotate("refresh-phone", "phone-2")).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("한 기기의 토큰만 교체되고, 교체 전 refresh 다이제스트로는 다시 교체할 수 없다")
+    void rotatesOneDeviceAndRejectsStaleDigest() {
+        save("phone", 0);
+        save("laptop", 1);
+
+        assertThat(rotate("refresh-phone", "phone-2")).isEqualTo(1L);
+
+        assertThat(current("phone")).isFalse();
+        assertThat(current("phone-2")).isTrue();
+        assertThat(current("laptop")).isTrue();
+        assertThat(redisTemplate.opsForHash().get("sessionPairs:" + USER_ID, "refresh-phone-2")).isEqualTo("access-phone-2");
+
+        assertThat(rotate("refresh-phone", "phone-3")).isEqualTo(-1L);
+        assertThat(current("phone-3")).isFalse();
+        assertThat(current("phone-2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("남은 세션이 없으면 교체 결과는 0")
+    void rotateWithoutSessionsReturnsZero() {
+        assertThat(rotate("refresh-phone", "phone-2")).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("재발급된 accessToken 은 같은 기기 세션의 짝만 바꾼다")
+    void replacesAccessOfSameDevice() {
+        save("phone", 0);
+        save("laptop", 1);
+
+        assertThat(service.replaceAccess(USER_ID, "access-phone", "access-phone-renamed", now + ACCESS_TTL_MILLIS)).isTrue();
+
+        assertThat(current("phone")).isFalse();
+        assertThat(service.lookup(USER_ID, "access-phone-renamed").current()).isTrue();
+        assertThat(current("laptop")).isTrue();
+        assertThat(redisTemplate.opsForHash().get("sessionPairs:" + USER_ID, "refresh-phone")).isEqualTo("access-phone-renamed");
+        assertThat(service.replaceAccess(USER_ID, "access-unknown", "access-x", now + ACCESS_TTL_MILLIS)).isFalse();
+    }
+
+    @Test
+    @DisplayName("한 기기에서 로그아웃해도 다른 기기 세션은 유지된다")
+    void logoutKeepsOtherDevices() {
+        save("phone", 0);
+        save("laptop", 1);
+
+        service.remove(USER_ID, "access-phone", "refresh-phone");
+
+        SessionService.Lookup phone = service.lookup(USER_ID, "access-phone");
+        assertThat(phone.current()).isFalse();
+        assertThat(phone.exists()).isTrue();
+        assertThat(current("laptop")).isTrue();
+        assertThat(rotate("refresh-phone", "phone-2")).isEqualTo(-1L);
+        assertThat(rotate("refresh-laptop", "laptop-2")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("refreshToken 쿠키 없이 로그아웃해도 access 다이제스트로 기기 세션을 찾아 지운다")
+    void logoutWithoutRefreshCookie() {
+        save("phone", 0);
+        save("laptop", 1);
+
+        service.remove(USER_ID, "access-phone", null);
+
+        assertThat(redisTemplate.opsForZSet().score("sessionRefresh:" + USER_ID, "refresh-phone")).isNull();
+        assertThat(current("laptop")).isTrue();
+    }
+
+    // 기기마다 refresh 만료 시각을 조금씩 늦춰 로그인 순서를 만든다
+    private void save(String device, int order) {
+        service.save(USER_ID,
+                "access-" + device, now + ACCESS_TTL_MILLIS,
+                "refresh-" + device, now + REFRESH_TTL_MILLIS + order,
+                device, Status.ACTIVE);
+    }
+
+    private Long rotate(String presentedRefreshDigest, String newDevice) {
+        return service.rotate(USER_ID, presentedRefreshDigest,
+                "access-" + newDevice, now + ACCESS_TTL_MILLIS,
+                "refresh-" + newDevice, now + REFRESH_TTL_MILLIS + 10);
+    }
+
+    private boolean current(String device) {
+        return service.lookup(USER_ID, "access-" + device).current();
+    }
+}
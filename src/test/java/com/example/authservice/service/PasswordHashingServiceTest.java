@@ -0,0 +1,137 @@
+package com.example.authservice.service;
+
+import com.example.authservice.config.security.BCryptCostCalibrator;
+import com.example.authservice.config.security.PasswordHashingProperties;
+import com.example.authservice.exception.PasswordHashingBusyException;
+import com.example.authservice.mapper.UserMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class PasswordHashingServiceTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UserMapper userMapper = Mockito.mock(UserMapper.class);
+    private PasswordHashingService passwordHashingService;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordHashingService.shutdown();
+    }
+
+    @Test
+    @DisplayName("실행 중인 작업과 대기열이 모두 차면 503 용 예외로 바로 거절한다")
+    void rejectsWhenQueueIsFull() throws Exception {
+        passwordHashingService = create(blockingEncoder(), properties(1, 1, 4));
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> passwordHashingService.matches("a", "b"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> passwordHashingService.matches("a", "b"));
+        waitForQueueDepth(1);
+
+        assertThatThrownBy(() -> passwordHashingService.matches("a", "b"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(meterRegistry.get("auth.password.hash.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("여유가 있으면 bcrypt 결과를 그대로 돌려준다")
+    void delegatesToEncoder() {
+        release.countDown();
+        passwordHashingService = create(new BCryptPasswordEncoder(4), properties(1, 1, 4));
+
+        String encoded = passwordHashingService.encode("password1!");
+
+        assertThat(passwordHashingService.matches("password1!", encoded)).isTrue();
+        assertThat(passwordHashingService.matches("wrong", encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 cost 가 목표보다 낮으면 비동기로 다시 해싱해 저장한다")
+    void rehashesWhenCostIsBelowTarget() {
+        release.countDown();
+        PasswordHashingProperties properties = properties(1, 1, 5);
+        passwordHashingService = create(new BCryptPasswordEncoder(5), properties);
+        String storedAtCost4 = new BCryptPasswordEncoder(4).encode("password1!");
+
+        assertThat(passwordHashingService.needsRehash(storedAtCost4)).isTrue();
+        passwordHashingService.rehashIfNeeded(1L, "password1!", storedAtCost4);
+
+        verify(userMapper, timeout(5_000))
+                .updatePasswordIfUnchanged(eq(1L), eq(storedAtCost4), startsWith("$2a$05$"));
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 cost 가 목표보다 높으면 (다른 파드가 더 높게 측정한 경우) 낮춰 저장하지 않는다")
+    void keepsHashWhenCostIsAboveTarget() {
+        release.countDown();
+        passwordHashingService = create(new BCryptPasswordEncoder(4), properties(1, 1, 4));
+        String storedAtCost5 = new BCryptPasswordEncoder(5).encode("password1!");
+
+        assertThat(passwordHashingService.needsRehash(storedAtCost5)).isFalse();
+        passwordHashingService.rehashIfNeeded(1L, "password1!", storedAtCost5);
+        passwordHashingService.shutdown();
+
+        verify(userMapper, after(500).never()).updatePasswordIfUnchanged(any(), any(), any());
+    }
+
+    private PasswordHashingService create(BCryptPasswordEncoder encoder, PasswordHashingProperties properties) {
+        return new PasswordHashingService(encoder, properties, new BCryptCostCalibrator(properties), userMapper, meterRegistry);
+    }
+
+    private BCryptPasswordEncoder blockingEncoder() {
+        return new BCryptPasswordEncoder() {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+    }
+
+    private void waitForQueueDepth(int depth) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            if (meterRegistry.get("auth.password.hash.queue.depth").gauge().value() >= depth) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static PasswordHashingProperties properties(int threads, int queueCapacity, int cost) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setThreads(threads);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setMinCost(4);
+        properties.setCost(cost);
+        return properties;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.authservice.service;
+
+import com.example.authservice.config.cache.AccountStatusCache;
+import com.example.authservice.config.cache.AuthCacheProperties;
+import com.example.authservice.config.cache.CacheInvalidator;
+import com.example.authservice.config.cache.SessionTokenNearCache;
+import com.example.authservice.config.jwt.JwtProperties;
+import com.example.authservice.config.jwt.VerifiedTokenCache;
+import com.example.authservice.config.session.SessionProperties;
+import com.example.authservice.mapper.UserMapper;
+import com.example.authservice.testsupport.RedisTestSupport;
+import com.example.authservice.type.Status;
+import com.example.authservice.type.TokenRotationResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// ReactiveSessionService 의 토큰 교체가 같은 키 레이아웃과 Lua 스크립트로 SessionService 와 같은 결과를 내는지 확인
+class ReactiveSessionServiceTest extends RedisTestSupport {
+
+    private static final Long USER_ID = 1L;
+    private static final Duration ACCESS_TTL = Duration.ofMinutes(2);
+    private static final Duration REFRESH_TTL = Duration.ofDays(7);
+
+    private SessionService sessionService;
+    private ReactiveSessionService reactiveSessionService;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AuthCacheProperties cacheProperties = new AuthCacheProperties();
+        SessionTokenNearCache nearCache = new SessionTokenNearCache(cacheProperties, meterRegistry);
+        AccountStatusCache accountStatusCache = new AccountStatusCache(cacheProperties, mock(UserMapper.class), meterRegistry);
+        CacheInvalidator cacheInvalidator = new CacheInvalidator(redisTemplate, cacheProperties,
+                new VerifiedTokenCache(new JwtProperties(), meterRegistry), nearCache, accountStatusCache);
+        SessionProperties sessionProperties = new SessionProperties();
+        sessionService = new SessionService(redisTemplate, nearCache, accountStatusCache, cacheInvalidator,
+                sessionProperties, new MultiDeviceSessionService(redisTemplate, sessionProperties, meterRegistry));
+        reactiveSessionService = new ReactiveSessionService(
+                new ReactiveStringRedisTemplate(connectionFactory), sessionService, sessionProperties);
+    }
+
+    @ParameterizedTest(name = "{0} 레이아웃, refreshToken={1}")
+    @CsvSource({
+            "hash, refresh-1",
+            "hash, refresh-stale",
+            "legacy, refresh-legacy",
+            "legacy, refresh-stale",
+            "none, refresh-1"
+    })
+    @DisplayName("토큰 교체 결과와 교체 후 Redis 상태가 SessionService 와 같다")
+    void rotateMatches(String layout, String presentedRefreshToken) {
+        seed(layout);
+        TokenRotationResult blocking = sessionService.rotateTokens(USER_ID, presentedRefreshToken,
+                "access-2", ACCESS_TTL, "refresh-2", REFRESH_TTL);
+        Map<String, Object> blockingState = snapshot();
+
+        flushRedis();
+        seed(layout);
+        TokenRotationResult reactive = reactiveSessionService.rotateTokens(USER_ID, presentedRefreshToken,
+                "access-2", ACCESS_TTL, "refresh-2", REFRESH_TTL).block();
+        Map<String, Object> reactiveState = snapshot();
+
+        assertThat(reactive).isEqualTo(blocking);
+        assertThat(reactiveState).isEqualTo(blockingState);
+    }
+
+    private void seed(String layout) {
+        if (layout.equals("hash")) {
+            sessionService.saveSession(USER_ID, "access-1", "refresh-1", Status.ACTIVE);
+        } else if (layout.equals("legacy")) {
+            seedLegacySession();
+        }
+    }
+
+    private void seedLegacySession() {
+        redisTemplate.opsForValue().set("accessToken:" + USER_ID, "access-legacy", Duration.ofHours(2));
+        redisTemplate.opsForValue().set("refreshToken:" + USER_ID, "refresh-legacy", REFRESH_TTL);
+        redisTemplate.opsForValue().set("accountStatus:" + USER_ID, "ACTIVE", REFRESH_TTL);
+    }
+
+    // 실행 시각에 따라 달라지는 필드를 뺀 세션 해시와 이전 레이아웃 키
+    private Map<String, Object> snapshot() {
+        Map<String, Object> state = new HashMap<>();
+        redisTemplate.opsForHash().entries(SessionService.sessionKey(USER_ID)).forEach((field, value) -> {
+            if (!field.equals("issuedAt") && !field.equals("accessExpiresAt")) {
+                state.put((String) field, value);
+            }
+        });
+        for (String key : List.of("accessToken:" + USER_ID, "refreshToken:" + USER_ID, "accountStatus:" + USER_ID)) {
+            state.put(key, redisTemplate.opsForValue().get(key));
+        }
+        return state;
+    }
+}
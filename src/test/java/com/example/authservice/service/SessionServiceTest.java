@@ -0,0 +1,225 @@
+package com.example.authservice.service;
+
+import com.example.authservice.config.cache.AccountStatusCache;
+import com.example.authservice.config.cache.AuthCacheProperties;
+import com.example.authservice.config.cache.CacheInvalidator;
+import com.example.authservice.config.cache.SessionTokenNearCache;
+import com.example.authservice.config.jwt.JwtProperties;
+import com.example.authservice.config.jwt.VerifiedTokenCache;
+import com.example.authservice.config.session.SessionProperties;
+import com.example.authservice.dto.SessionStateDTO;
+import com.example.authservice.mapper.UserMapper;
+import com.example.authservice.testsupport.RedisTestSupport;
+import com.example.authservice.type.Status;
+import com.example.authservice.type.TokenRotationResult;
+import com.example.authservice.util.TokenDigestUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class SessionServiceTest extends RedisTestSupport {
+
+    private static final Long USER_ID = 1L;
+    private static final Duration ACCESS_TTL = Duration.ofMinutes(2);
+    private static final Duration REFRESH_TTL = Duration.ofDays(7);
+
+    private SessionService sessionService;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AuthCacheProperties cacheProperties = new AuthCacheProperties();
+        SessionTokenNearCache nearCache = new SessionTokenNearCache(cacheProperties, meterRegistry);
+        AccountStatusCache accountStatusCache = new AccountStatusCache(cacheProperties, mock(UserMapper.class), meterRegistry);
+        CacheInvalidator cacheInvalidator = new CacheInvalidator(redisTemplate, cacheProperties,
+                new VerifiedTokenCache(new JwtProperties(), meterRegistry), nearCache, accountStatusCache);
+        SessionProperties sessionProperties = new SessionProperties();
+        sessionService = new SessionService(redisTemplate, nearCache, accountStatusCache, cacheInvalidator,
+                sessionProperties, new MultiDeviceSessionService(redisTemplate, sessionProperties, meterRegistry));
+    }
+
+    @Test
+    @DisplayName("저장된 refreshToken 으로만 교체되고, 교체 전 토큰을 다시 쓰면 거절된다")
+    void rejectsReplayedAndStaleRefreshToken() {
+        sessionService.saveSession(USER_ID, "access-1", "refresh-1", Status.ACTIVE);
+
+        assertThat(rotate("refresh-1", "access-2", "refresh-2")).isEqualTo(TokenRotationResult.ROTATED);
+        // 이미 교체된 토큰 재사용
+        assertThat(rotate("refresh-1", "access-3", "refresh-3")).isEqualTo(TokenRotationResult.MISMATCH);
+        // 저장된 적 없는 토큰
+        assertThat(rotate("refresh-unknown", "access-3", "refresh-3")).isEqualTo(TokenRotationResult.MISMATCH);
+
+        assertThat(redisTemplate.opsForHash().get(SessionService.sessionKey(USER_ID), "refresh"))
+                .isEqualTo(TokenDigestUtil.digest("refresh-2"));
+        assertThat(sessionService.getSessionState(USER_ID, "access-2").isCurrent()).isTrue();
+        assertThat(sessionService.getSessionState(USER_ID, "access-1").isCurrent()).isFalse();
+    }
+
+    @Test
+    @DisplayName("세션이 없으면 NOT_FOUND")
+    void notFoundWithoutSession() {
+        assertThat(rotate("refresh-1", "access-2", "refresh-2")).isEqualTo(TokenRotationResult.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("같은 refreshToken 으로 동시에 재발급하면 정확히 한 번만 교체된다")
+    void concurrentRefreshRotatesOnce() throws Exception {
+        sessionService.saveSession(USER_ID, "access-1", "refresh-1", Status.ACTIVE);
+        int requests = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            List<Future<TokenRotationResult>> results = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                String suffix = String.valueOf(i);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return rotate("refresh-1", "access-new-" + suffix, "refresh-new-" + suffix);
+                }));
+            }
+            start.countDown();
+
+            List<String> winners = new ArrayList<>();
+            int mismatches = 0;
+            for (int i = 0; i < requests; i++) {
+                TokenRotationResult result = results.get(i).get();
+                if (result == TokenRotationResult.ROTATED) {
+                    winners.add(String.valueOf(i));
+                } else if (result == TokenRotationResult.MISMATCH) {
+                    mismatches++;
+                }
+            }
+
+            assertThat(winners).hasSize(1);
+            assertThat(mismatches).isEqualTo(requests - 1);
+            assertThat(redisTemplate.opsForHash().get(SessionService.sessionKey(USER_ID), "refresh"))
+                    .isEqualTo(TokenDigestUtil.digest("refresh-new-" + winners.get(0)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("이전 레이아웃 키만 있는 세션도 조회된다 (배포 전 JWT 원문 포함)")
+    void looksUpLegacyLayout() {
+        seedLegacySession("access-legacy", "refresh-legacy", "ACTIVE");
+
+        SessionStateDTO current = sessionService.getSessionState(USER_ID, "access-legacy");
+        assertThat(current.isExists()).isTrue();
+        assertThat(current.isCurrent()).isTrue();
+        assertThat(current.getStatus()).isEqualTo(Status.ACTIVE);
+
+        SessionStateDTO other = sessionService.getSessionState(USER_ID, "access-other");
+        assertThat(other.isExists()).isTrue();
+        assertThat(other.isCurrent()).isFalse();
+    }
+
+    @Test
+    @DisplayName("이전 레이아웃 세션을 재발급하면 session:{id} 해시로 옮기고 문자열 키를 지운다")
+    void rotationMigratesLegacyLayout() {
+        seedLegacySession("access-legacy", "refresh-legacy", "ACTIVE");
+
+        assertThat(rotate("refresh-legacy", "access-2", "refresh-2")).isEqualTo(TokenRotationResult.ROTATED);
+
+        Map<Object, Object> session = redisTemplate.opsForHash().entries(SessionService.sessionKey(USER_ID));
+        assertThat(session)
+                .containsEntry("access", TokenDigestUtil.digest("access-2"))
+                .containsEntry("refresh", TokenDigestUtil.digest("refresh-2"))
+                .containsEntry("status", "ACTIVE")
+                .containsEntry("device", "unknown");
+        assertThat(redisTemplate.getExpire(SessionService.sessionKey(USER_ID), TimeUnit.SECONDS)).isPositive();
+        assertThat(redisTemplate.countExistingKeys(legacyKeys())).isZero();
+
+        // 옮긴 뒤에는 해시 경로로 조회/교체된다
+        assertThat(sessionService.getSessionState(USER_ID, "access-2").isCurrent()).isTrue();
+        assertThat(rotate("refresh-legacy", "access-3", "refresh-3")).isEqualTo(TokenRotationResult.MISMATCH);
+        assertThat(rotate("refresh-2", "access-3", "refresh-3")).isEqualTo(TokenRotationResult.ROTATED);
+    }
+
+    @Test
+    @DisplayName("이전 레이아웃 세션의 refreshToken 이 다르면 옮기지 않고 거절한다")
+    void legacyRotationRejectsMismatch() {
+        seedLegacySession("access-legacy", "refresh-legacy", "ACTIVE");
+
+        assertThat(rotate("refresh-other", "access-2", "refresh-2")).isEqualTo(TokenRotationResult.MISMATCH);
+        assertThat(redisTemplate.hasKey(SessionService.sessionKey(USER_ID))).isFalse();
+        assertThat(redisTemplate.countExistingKeys(legacyKeys())).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("계정 상태는 세션 해시가 있으면 해시에, 없으면 이전 레이아웃 키에 기록한다")
+    void saveStatusWritesToEitherLayout() {
+        seedLegacySession("access-legacy", "refresh-legacy", "ACTIVE");
+        sessionService.saveStatus(USER_ID, Status.BANNED);
+
+        assertThat(redisTemplate.opsForValue().get("accountStatus:" + USER_ID)).isEqualTo("BANNED");
+        // update-session-fields.lua 는 없는 해시를 만들지 않는다
+        assertThat(redisTemplate.hasKey(SessionService.sessionKey(USER_ID))).isFalse();
+        assertThat(sessionService.getSessionState(USER_ID, "access-legacy").getStatus()).isEqualTo(Status.BANNED);
+
+        sessionService.saveSession(2L, "access-1", "refresh-1", Status.ACTIVE);
+        sessionService.saveStatus(2L, Status.INACTIVE);
+
+        assertThat(redisTemplate.opsForHash().get(SessionService.sessionKey(2L), "status")).isEqualTo("INACTIVE");
+        assertThat(redisTemplate.hasKey("accountStatus:2")).isFalse();
+    }
+
+    @Test
+    @DisplayName("accessToken 만 재발급하면 해시 세션은 해시 필드를, 이전 레이아웃은 문자열 키를 바꾼다")
+    void saveAccessTokenUpdatesEitherLayout() {
+        sessionService.saveSession(2L, "access-1", "refresh-1", Status.ACTIVE);
+        sessionService.saveAccessToken(2L, "access-1", "access-2");
+
+        assertThat(redisTemplate.opsForHash().get(SessionService.sessionKey(2L), "access"))
+                .isEqualTo(TokenDigestUtil.digest("access-2"));
+        assertThat(redisTemplate.hasKey("accessToken:2")).isFalse();
+
+        seedLegacySession("access-legacy", "refresh-legacy", "ACTIVE");
+        sessionService.saveAccessToken(USER_ID, "access-legacy", "access-2");
+
+        assertThat(redisTemplate.opsForValue().get("accessToken:" + USER_ID)).isEqualTo(TokenDigestUtil.digest("access-2"));
+        assertThat(sessionService.getSessionState(USER_ID, "access-2").isCurrent()).isTrue();
+    }
+
+    @Test
+    @DisplayName("세션 삭제는 해시와 이전 레이아웃의 accountStatus 키까지 모두 지운다")
+    void deleteSessionRemovesAllLayouts() {
+        seedLegacySession("access-legacy", "refresh-legacy", "ACTIVE");
+        redisTemplate.opsForHash().put(SessionService.sessionKey(USER_ID), "status", "ACTIVE");
+
+        sessionService.deleteSession(USER_ID);
+
+        assertThat(redisTemplate.hasKey(SessionService.sessionKey(USER_ID))).isFalse();
+        assertThat(redisTemplate.countExistingKeys(legacyKeys())).isZero();
+    }
+
+    // 해시 레이아웃 이전에 저장된 세션: accessToken/refreshToken 은 JWT 원문, 상태는 별도 키
+    private void seedLegacySession(String accessToken, String refreshToken, String status) {
+        redisTemplate.opsForValue().set("accessToken:" + USER_ID, accessToken, Duration.ofHours(2));
+        redisTemplate.opsForValue().set("refreshToken:" + USER_ID, refreshToken, REFRESH_TTL);
+        redisTemplate.opsForValue().set("accountStatus:" + USER_ID, status, REFRESH_TTL);
+    }
+
+    private static List<String> legacyKeys() {
+        return List.of("accessToken:" + USER_ID, "refreshToken:" + USER_ID, "accountStatus:" + USER_ID);
+    }
+
+    private TokenRotationResult rotate(String presentedRefreshToken, String newAccessToken, String newRefreshToken) {
+        return sessionService.rotateTokens(USER_ID, presentedRefreshToken,
+                newAccessToken, ACCESS_TTL, newRefreshToken, REFRESH_TTL);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.authservice.service;
+
+import com.example.authservice.config.jwt.JwtKeyHolder;
+import com.example.authservice.config.jwt.JwtProperties;
+import com.example.authservice.config.jwt.VerifiedTokenCache;
+import com.example.authservice.dto.ClaimsRequestDTO;
+import com.example.authservice.dto.ClaimsResponseDTO;
+import com.example.authservice.dto.TokenVerificationResultDTO;
+import com.example.authservice.type.TokenStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenProviderServiceTest {
+
+    private TokenProviderService tokenProviderService;
+    private VerifiedTokenCache verifiedTokenCache;
+    private SimpleMeterRegistry meterRegistry;
+
+    private final ClaimsRequestDTO claimsRequestDTO = ClaimsRequestDTO.builder()
+            .userId(42L)
+            .nickname("tester")
+            .profileImage("https://example.com/profile.png")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("test@test.com");
+        jwtProperties.setSecretKey(Base64.getEncoder().encodeToString(new byte[64]));
+
+        JwtKeyHolder jwtKeyHolder = new JwtKeyHolder(jwtProperties);
+        jwtKeyHolder.init();
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(jwtProperties, meterRegistry);
+        tokenProviderService = new TokenProviderService(jwtProperties, jwtKeyHolder, verifiedTokenCache);
+    }
+
+    @Test
+    @DisplayName("유효한 토큰은 한 번의 검증으로 Claims 까지 반환한다")
+    void verifyValidToken() {
+        String token = tokenProviderService.generateToken(claimsRequestDTO, Duration.ofHours(2));
+
+        TokenVerificationResultDTO result = tokenProviderService.verify(token);
+
+        assertThat(result.getStatus()).isEqualTo(TokenStatus.VALID);
+        assertThat(result.getClaims().getId()).isEqualTo(42L);
+        assertThat(result.getClaims().getNickname()).isEqualTo("tester");
+        assertThat(result.getClaims().getProfileImage()).isEqualTo("https://example.com/profile.png");
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 EXPIRED 를 반환한다")
+    void verifyExpiredToken() {
+        String token = tokenProviderService.generateToken(claimsRequestDTO, Duration.ofSeconds(-10));
+
+        TokenVerificationResultDTO result = tokenProviderService.verify(token);
+
+        assertThat(result.getStatus()).isEqualTo(TokenStatus.EXPIRED);
+        assertThat(result.getClaims()).isNull();
+    }
+
+    @Test
+    @DisplayName("위조되거나 형식이 잘못된 토큰은 MALFORMED 를 반환한다")
+    void verifyMalformedToken() {
+        String token = tokenProviderService.generateToken(claimsRequestDTO, Duration.ofHours(2));
+        int signatureStart = token.lastIndexOf('.') + 1;
+        char replaced = token.charAt(signatureStart) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, signatureStart) + replaced + token.substring(signatureStart + 1);
+
+        assertThat(tokenProviderService.verify(tampered).getStatus()).isEqualTo(TokenStatus.MALFORMED);
+        assertThat(tokenProviderService.verify("not-a-jwt").getStatus()).isEqualTo(TokenStatus.MALFORMED);
+    }
+
+    @Test
+    @DisplayName("같은 토큰을 다시 검증하면 캐시에서 Claims 를 반환한다")
+    void verifyUsesCacheForSameToken() {
+        String token = tokenProviderService.generateToken(claimsRequestDTO, Duration.ofHours(2));
+
+        ClaimsResponseDTO first = tokenProviderService.verify(token).getClaims();
+        ClaimsResponseDTO second = tokenProviderService.verify(token).getClaims();
+
+        assertThat(second).isSameAs(first);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "verifiedToken").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("사용자 단위로 캐시를 무효화하면 다시 검증한다")
+    void invalidateUserEvictsCachedToken() {
+        String token = tokenProviderService.generateToken(claimsRequestDTO, Duration.ofHours(2));
+        ClaimsResponseDTO first = tokenProviderService.verify(token).getClaims();
+
+        verifiedTokenCache.invalidateUser(42L);
+
+        assertThat(tokenProviderService.verify(token).getClaims()).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 캐시를 무효화해도 이 사용자의 항목은 남는다")
+    void invalidateUserKeepsOtherUsers() {
+        String token = tokenProviderService.generateToken(claimsRequestDTO, Duration.ofHours(2));
+        ClaimsResponseDTO first = tokenProviderService.verify(token).getClaims();
+
+        verifiedTokenCache.invalidateUser(7L);
+
+        assertThat(tokenProviderService.verify(token).getClaims()).isSameAs(first);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.authservice.service;
+
+import com.example.authservice.config.cache.AccountStatusCache;
+import com.example.authservice.config.cache.AuthCacheProperties;
+import com.example.authservice.config.cache.CacheInvalidator;
+import com.example.authservice.config.cache.SessionTokenNearCache;
+import com.example.authservice.config.jwt.JwtKeyHolder;
+import com.example.authservice.config.jwt.JwtProperties;
+import com.example.authservice.config.jwt.VerifiedTokenCache;
+import com.example.authservice.config.session.SessionProperties;
+import com.example.authservice.dto.ClaimsRequestDTO;
+import com.example.authservice.dto.RefreshTokenResponseDTO;
+import com.example.authservice.mapper.UserMapper;
+import com.example.authservice.testsupport.RedisTestSupport;
+import com.example.authservice.type.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.net.HttpCookie;
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class TokenServiceTest extends RedisTestSupport {
+
+    private static final Long USER_ID = 1L;
+
+    private TokenProviderService tokenProviderService;
+    private SessionService sessionService;
+    private TokenService tokenService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("test@test.com");
+        jwtProperties.setSecretKey(Base64.getEncoder().encodeToString(new byte[64]));
+        JwtKeyHolder jwtKeyHolder = new JwtKeyHolder(jwtProperties);
+        jwtKeyHolder.init();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(jwtProperties, meterRegistry);
+        tokenProviderService = new TokenProviderService(jwtProperties, jwtKeyHolder, verifiedTokenCache);
+
+        AuthCacheProperties cacheProperties = new AuthCacheProperties();
+        SessionTokenNearCache nearCache = new SessionTokenNearCache(cacheProperties, meterRegistry);
+        AccountStatusCache accountStatusCache = new AccountStatusCache(cacheProperties, mock(UserMapper.class), meterRegistry);
+        CacheInvalidator cacheInvalidator = new CacheInvalidator(redisTemplate, cacheProperties,
+                verifiedTokenCache, nearCache, accountStatusCache);
+        SessionProperties sessionProperties = new SessionProperties();
+        sessionService = new SessionService(redisTemplate, nearCache, accountStatusCache, cacheInvalidator,
+                sessionProperties, new MultiDeviceSessionService(redisTemplate, sessionProperties, meterRegistry));
+        ReactiveSessionService reactiveSessionService = new ReactiveSessionService(
+                new ReactiveStringRedisTemplate(connectionFactory), sessionService, sessionProperties);
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("reactiveSessionService", reactiveSessionService);
+        tokenService = new TokenService(tokenProviderService, sessionService,
+                beanFactory.getBeanProvider(ReactiveSessionService.class));
+    }
+
+    @Test
+    @DisplayName("재발급한 refreshToken 은 블로킹/리액티브 모두 ResponseEntity 의 Set-Cookie 헤더로 내려간다")
+    void returnsRefreshCookieAsHeader() {
+        String[] tokens = login();
+        ResponseEntity<RefreshTokenResponseDTO> blocking = tokenService.refreshToken(tokens[0], request(tokens[1]));
+        assertRefreshCookie(blocking);
+
+        String rotatedRefreshToken = HttpCookie.parse(blocking.getHeaders().getFirst(HttpHeaders.SET_COOKIE))
+                .get(0).getValue();
+        ResponseEntity<RefreshTokenResponseDTO> reactive = tokenService.refreshTokenReactive(
+                blocking.getBody().getAccessToken(), request(rotatedRefreshToken)).block();
+        assertRefreshCookie(reactive);
+    }
+
+    @Test
+    @DisplayName("교체에 실패하면 쿠키를 내려주지 않는다")
+    void omitsCookieOnRejection() {
+        String[] tokens = login();
+
+        ResponseEntity<RefreshTokenResponseDTO> rejected = tokenService.refreshTokenReactive(
+                tokens[0], request("stale-refresh-token")).block();
+
+        assertThat(rejected.getStatusCode().value()).isEqualTo(401);
+        assertThat(rejected.getHeaders().get(HttpHeaders.SET_COOKIE)).isNull();
+    }
+
+    private String[] login() {
+        ClaimsRequestDTO claims = ClaimsRequestDTO.builder().userId(USER_ID).nickname("tester").build();
+        String accessToken = tokenProviderService.generateToken(claims, Duration.ofHours(2));
+        String refreshToken = tokenProviderService.generateToken(claims, Duration.ofDays(7));
+        sessionService.saveSession(USER_ID, accessToken, refreshToken, Status.ACTIVE);
+        return new String[]{accessToken, refreshToken};
+    }
+
+    private static MockHttpServletRequest request(String refreshToken) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auths/refresh");
+        request.setCookies(new Cookie("refreshToken", refreshToken));
+        return request;
+    }
+
+    private static void assertRefreshCookie(ResponseEntity<RefreshTokenResponseDTO> entity) {
+        assertThat(entity.getStatusCode().value()).isEqualTo(200);
+        assertThat(entity.getHeaders().getFirst(HttpHeaders.SET_COOKIE))
+                .startsWith("refreshToken=")
+                .contains("Path=/", "Max-Age=604800", "HttpOnly");
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.authservice.store;
+
+import com.example.authservice.config.verification.EmailVerificationProperties;
+import com.example.authservice.model.EmailVerification;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+class RedisEmailVerificationStoreTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7.2-alpine").withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisEmailVerificationStore store;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        store = new RedisEmailVerificationStore(redisTemplate, new EmailVerificationProperties());
+        store.deleteByEmail("user@test.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("코드는 TTL 과 함께 저장되고, 일치하는 유효 코드만 인증 처리되며 TTL 이 늘어난다")
+    void storesCodeWithTtlAndVerifies() {
+        Timestamp createdAt = new Timestamp(System.currentTimeMillis());
+        assertThat(store.upsertEmailCode("User@test.com", "123456", createdAt)).isEqualTo(1);
+
+        String key = RedisEmailVerificationStore.key("user@test.com");
+        assertThat(redisTemplate.getExpire(key, TimeUnit.SECONDS)).isBetween(1L, 300L);
+
+        Timestamp notBefore = new Timestamp(createdAt.getTime() - 1);
+        assertThat(store.verifyEmailCode("user@test.com", "000000", notBefore)).isZero();
+        assertThat(store.verifyEmailCode("user@test.com", "123456", createdAt)).isZero();
+        assertThat(store.verifyEmailCode("user@test.com", "123456", notBefore)).isEqualTo(1);
+
+        EmailVerification verified = store.findByEmail("user@test.com");
+        assertThat(verified.isVerified()).isTrue();
+        assertThat(verified.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(redisTemplate.getExpire(key, TimeUnit.SECONDS)).isGreaterThan(300L);
+    }
+
+    @Test
+    @DisplayName("이미 인증된 이메일은 코드를 다시 발급하지 않는다")
+    void doesNotReissueAfterVerification() {
+        Timestamp createdAt = new Timestamp(System.currentTimeMillis());
+        store.upsertEmailCode("user@test.com", "123456", createdAt);
+        store.verifyEmailCode("user@test.com", "123456", new Timestamp(createdAt.getTime() - 1));
+
+        assertThat(store.upsertEmailCode("user@test.com", "654321", createdAt)).isZero();
+        assertThat(store.findByEmail("user@test.com").getCode()).isEqualTo("123456");
+    }
+
+    @Test
+    @DisplayName("삭제하면 조회 결과가 없다")
+    void deletes() {
+        store.upsertEmailCode("user@test.com", "123456", new Timestamp(System.currentTimeMillis()));
+        store.deleteByEmail("user@test.com");
+
+        assertThat(store.findByEmail("user@test.com")).isNull();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.authservice.testsupport;
+
+import org.apache.ibatis.session.Configuration;
+import org.h2.jdbcx.JdbcDataSource;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+// 테스트마다 새 H2(MODE=MySQL) 메모리 DB 에 schema.sql 을 적용하고, 실제 매퍼 XML 로 매퍼를 만든다
+public final class MyBatisTestSupport {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SqlSessionTemplate sqlSessionTemplate;
+
+    private MyBatisTestSupport(JdbcTemplate jdbcTemplate, SqlSessionTemplate sqlSessionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sqlSessionTemplate = sqlSessionTemplate;
+    }
+
+    public static MyBatisTestSupport create(String... mapperXmls) throws Exception {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+
+        // application-test.yml 의 mybatis 설정과 같게
+        Configuration configuration = new Configuration();
+        configuration.setMapUnderscoreToCamelCase(true);
+        SqlSessionFactoryBean factoryBean = new SqlSessionFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setConfiguration(configuration);
+        factoryBean.setTypeAliasesPackage("com.example.authservice.model");
+        factoryBean.setMapperLocations(Arrays.stream(mapperXmls)
+                .map(xml -> new ClassPathResource("mappers/" + xml))
+                .toArray(ClassPathResource[]::new));
+
+        return new MyBatisTestSupport(new JdbcTemplate(dataSource), new SqlSessionTemplate(factoryBean.getObject()));
+    }
+
+    public <T> T mapper(Class<T> type) {
+        return sqlSessionTemplate.getMapper(type);
+    }
+
+    public JdbcTemplate jdbcTemplate() {
+        return jdbcTemplate;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.authservice.testsupport;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+
+// Redis 가 필요한 단위 테스트의 공통 설정
+// 컨테이너는 테스트 클래스 사이에서 한 번만 띄우고(종료는 Testcontainers 가 처리), 테스트마다 DB 를 비운다.
+public abstract class RedisTestSupport {
+
+    protected static final GenericContainer<?> REDIS =
+            new GenericContainer<>("redis:7.2-alpine").withExposedPorts(6379);
+
+    static {
+        REDIS.start();
+    }
+
+    protected LettuceConnectionFactory connectionFactory;
+    protected StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void connectRedis() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        flushRedis();
+    }
+
+    protected void flushRedis() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        }, true);
+    }
+
+    @AfterEach
+    void disconnectRedis() {
+        connectionFactory.destroy();
+    }
+}
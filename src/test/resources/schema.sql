@@ -1,14 +1,31 @@
+-- src/main/resources/mappers/UserMapper.xml 이 쓰는 컬럼
 CREATE TABLE IF NOT EXISTS users (
                                      id BIGINT AUTO_INCREMENT PRIMARY KEY,
                                      email VARCHAR(255) NOT NULL UNIQUE,
-    password VARCHAR(255) NOT NULL,
+    password VARCHAR(255),
     nickname VARCHAR(100) NOT NULL,
-    profile_image_url VARCHAR(500),
-    user_type VARCHAR(20) DEFAULT 'STUDENT',
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+    phone_number VARCHAR(20),
+    role VARCHAR(20) DEFAULT 'STUDENT',
+    provider VARCHAR(20),
+    provider_id VARCHAR(255),
+    profile_image VARCHAR(500),
+    status VARCHAR(20) DEFAULT 'ACTIVE',
+    status_changed_at TIMESTAMP,
+    last_login_at TIMESTAMP,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
     );
 
 -- 인덱스 생성
 CREATE INDEX idx_users_email ON users(email);
-CREATE INDEX idx_users_user_type ON users(user_type);
\ No newline at end of file
+CREATE INDEX idx_users_role ON users(role);
+
+CREATE TABLE IF NOT EXISTS email_verification (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    code VARCHAR(10) NOT NULL,
+    is_verified BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP NOT NULL
+    );
+
+-- 만료 행 정리(deleteExpired)가 created_at 범위로 스캔한다
+CREATE INDEX idx_email_verification_created_at ON email_verification(created_at);